@@ -0,0 +1,116 @@
+package com.resume.analyzer.load;
+
+import com.resume.analyzer.ResumeAnalyzerApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end load against the HTTP API with the {@code synthetic-llm} profile, so the numbers show the
+ * application's own limits (servlet threads, executors, the LLM governor, the Hikari pool) instead of the
+ * provider's latency. Boots the application in the benchmark JVM unless {@code baseUrl} points at a running
+ * instance. Needs the same database settings as the application; watch {@code /actuator/prometheus} for
+ * {@code hikaricp_connections_pending} and {@code llm_governor_in_flight} while it runs.
+ * <p>
+ * ./mvnw -Pbenchmarks compile exec:exec -Djmh.args="AnalysisLoadBenchmark -t 32"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Threads(16)
+@Fork(value = 1, jvmArgsAppend = "-Dspring.profiles.active=synthetic-llm")
+public class AnalysisLoadBenchmark {
+
+    @Param("")
+    public String baseUrl;
+
+    @Param("20")
+    public int seededResumes;
+
+    /**
+     * When false every analysis request repeats the same job description, which measures the cache and
+     * coalescing path rather than the model path.
+     */
+    @Param("true")
+    public boolean uniqueJobDescriptions;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private LoadClient client;
+    private List<UUID> resumeIds;
+
+    @Setup
+    public void setUp() throws Exception {
+        URI base;
+        if (baseUrl.isEmpty()) {
+            context = SpringApplication.run(ResumeAnalyzerApplication.class, "--server.port=0");
+            base = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+        } else {
+            base = URI.create(baseUrl);
+        }
+        client = new LoadClient(base);
+        client.signUp();
+        resumeIds = client.seedResumes(seededResumes);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public int uploadResume(LoadOutcomes outcomes) throws Exception {
+        return outcomes.record(client.send(client.upload()));
+    }
+
+    @Benchmark
+    public int analyzeResume(LoadOutcomes outcomes) throws Exception {
+        String jobDescription = uniqueJobDescriptions
+                ? LoadClient.JOB_DESCRIPTION + " Ref " + sequence.incrementAndGet()
+                : LoadClient.JOB_DESCRIPTION;
+        return outcomes.record(client.send(client.post("/api/v1/resumes/analyze/" + randomResume(),
+                Map.of("jobDescription", jobDescription))));
+    }
+
+    @Benchmark
+    public int saveAndListAnalyses(LoadOutcomes outcomes) throws Exception {
+        UUID resumeId = randomResume();
+        Map<String, Object> analysis = Map.of(
+                "resumeId", resumeId,
+                "jobDescription", LoadClient.JOB_DESCRIPTION,
+                "aiSummary", Map.of("MatchScore", 70, "KeyStrengths", List.of("Java"), "OverallAssessment", "Good fit"));
+        int saved = outcomes.record(client.send(client.post("/api/v1/analysis", analysis)));
+        if (saved >= 300) {
+            return saved;
+        }
+        return outcomes.record(client.send(client.get("/api/v1/analysis/resume/" + resumeId)));
+    }
+
+    private UUID randomResume() {
+        return resumeIds.get(ThreadLocalRandom.current().nextInt(resumeIds.size()));
+    }
+}
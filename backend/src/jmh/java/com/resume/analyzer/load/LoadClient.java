@@ -0,0 +1,134 @@
+package com.resume.analyzer.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * HTTP client for the load benchmarks: signs up a throwaway user and sends authenticated API requests.
+ */
+final class LoadClient {
+
+    static final String JOB_DESCRIPTION = """
+            Senior Backend Engineer. Responsibilities: design and build Java and Spring Boot services, own PostgreSQL
+            schemas, run services on Kubernetes. Requirements: 5+ years of experience with Java, REST APIs, SQL and
+            message brokers such as Kafka. Nice to have: observability with Prometheus and Grafana.""";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client;
+    private final URI base;
+    private final byte[] resumePdf;
+    private String token;
+
+    LoadClient(URI base) throws IOException {
+        this.base = base;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        this.resumePdf = resumePdf();
+    }
+
+    void signUp() throws IOException, InterruptedException {
+        String email = "load-" + UUID.randomUUID() + "@example.com";
+        String password = "load-test-password";
+        send(post("/api/v1/users", Map.of("name", "Load Test", "email", email, "password", password)));
+        HttpResponse<String> authentication = send(post("/authenticate", Map.of("email", email, "password", password)));
+        token = objectMapper.readTree(authentication.body()).path("jwt").asText();
+    }
+
+    List<UUID> seedResumes(int count) throws IOException, InterruptedException {
+        List<UUID> resumeIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            HttpResponse<String> upload = send(upload());
+            if (upload.statusCode() >= 300) {
+                throw new IllegalStateException("Seeding resumes failed with " + upload.statusCode() + ": " + upload.body());
+            }
+            resumeIds.add(UUID.fromString(objectMapper.readTree(upload.body()).path("id").asText()));
+        }
+        return resumeIds;
+    }
+
+    HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    HttpRequest post(String path, Object body) throws IOException {
+        return authorized(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    HttpRequest get(String path) {
+        return authorized(path).GET().build();
+    }
+
+    HttpRequest upload() {
+        String boundary = "load-" + UUID.randomUUID();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(resumePdf.length + 256);
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"resume.pdf\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(resumePdf);
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return authorized("/api/v1/resumes/upload")
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(base.resolve(path)).timeout(Duration.ofMinutes(3));
+        if (token != null && !token.isEmpty()) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    /**
+     * A one-page resume that passes the local resume heuristics, so uploads never need the model.
+     */
+    private static byte[] resumePdf() throws IOException {
+        String[] lines = {
+                "Alex Load", "alex.load@example.com  +1 555 010 2030",
+                "SUMMARY", "Backend engineer building Java and Spring Boot services.",
+                "EXPERIENCE", "Senior Engineer, Example Corp, 2019 - present",
+                "Built REST APIs on PostgreSQL and Kafka, ran services on Kubernetes.",
+                "Engineer, Sample Ltd, 2015 - 2019", "Maintained billing services and SQL reporting.",
+                "EDUCATION", "BSc Computer Science, 2011 - 2015",
+                "SKILLS", "Java, Spring Boot, PostgreSQL, Kafka, Docker, Kubernetes, Prometheus"
+        };
+        try (PDDocument document = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                content.beginText();
+                content.setFont(PDType1Font.HELVETICA, 11);
+                content.setLeading(16);
+                content.newLineAtOffset(60, 720);
+                for (String line : lines) {
+                    content.showText(line);
+                    content.newLine();
+                }
+                content.endText();
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.resume.analyzer.load;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.net.http.HttpResponse;
+
+/**
+ * Per-thread request outcomes, reported by JMH next to throughput and latency.
+ */
+@AuxCounters(AuxCounters.Type.EVENTS)
+@State(Scope.Thread)
+public class LoadOutcomes {
+    public long succeeded;
+    public long failed;
+    public long rejected;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        succeeded = 0;
+        failed = 0;
+        rejected = 0;
+    }
+
+    int record(HttpResponse<String> response) {
+        int status = response.statusCode();
+        if (status < 300) {
+            succeeded++;
+        } else if (status == 429 || status == 503) {
+            rejected++;
+        } else {
+            failed++;
+        }
+        return status;
+    }
+}
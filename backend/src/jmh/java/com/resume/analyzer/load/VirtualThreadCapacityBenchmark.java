@@ -0,0 +1,80 @@
+package com.resume.analyzer.load;
+
+import com.resume.analyzer.ResumeAnalyzerApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrent-analysis capacity with Tomcat and the LLM executor on virtual threads versus platform threads.
+ * More clients than Tomcat's 200 default request threads each hold an analysis open for the synthetic model's
+ * latency, with the LLM governor off so thread handling is the only limit. Every request uses a new job
+ * description, so neither the analysis cache nor coalescing answers it.
+ * <p>
+ * ./mvnw -Pbenchmarks compile exec:exec -Djmh.args="VirtualThreadCapacityBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 15)
+@Measurement(iterations = 3, time = 30)
+@Threads(400)
+@Fork(value = 1, jvmArgsAppend = "-Dspring.profiles.active=synthetic-llm")
+public class VirtualThreadCapacityBenchmark {
+
+    @Param({"true", "false"})
+    public boolean virtualThreads;
+
+    @Param("1s")
+    public String modelLatency;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private LoadClient client;
+    private List<UUID> resumeIds;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = SpringApplication.run(ResumeAnalyzerApplication.class,
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--llm.governor.enabled=false",
+                "--llm.synthetic.latency-median=" + modelLatency,
+                "--llm.synthetic.latency-p99=" + modelLatency);
+        client = new LoadClient(URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")));
+        client.signUp();
+        resumeIds = client.seedResumes(20);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int analyzeResume(LoadOutcomes outcomes) throws Exception {
+        UUID resumeId = resumeIds.get(ThreadLocalRandom.current().nextInt(resumeIds.size()));
+        return outcomes.record(client.send(client.post("/api/v1/resumes/analyze/" + resumeId,
+                Map.of("jobDescription", LoadClient.JOB_DESCRIPTION + " Ref " + sequence.incrementAndGet()))));
+    }
+}
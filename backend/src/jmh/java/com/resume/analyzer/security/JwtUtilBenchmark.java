@@ -0,0 +1,75 @@
+package com.resume.analyzer.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token creation and verification in JwtUtil. {@code verifyUncached} runs with the verified-token cache
+ * disabled, so every call parses the token and checks its HMAC signature.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private final UUID userId = UUID.randomUUID();
+
+    private JwtUtil cachingJwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        cachingJwtUtil = jwtUtil(10_000);
+        uncachedJwtUtil = jwtUtil(0);
+        token = cachingJwtUtil.generateToken("benchmark-user", userId);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachingJwtUtil.generateToken("benchmark-user", userId);
+    }
+
+    @Benchmark
+    public Optional<JwtUtil.VerifiedToken> verifyCached() {
+        return cachingJwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public Optional<JwtUtil.VerifiedToken> verifyUncached() {
+        return uncachedJwtUtil.verify(token);
+    }
+
+    private static JwtUtil jwtUtil(long cacheMaximumSize) throws ReflectiveOperationException {
+        JwtUtil jwtUtil = new JwtUtil();
+        set(jwtUtil, "secret", SECRET);
+        set(jwtUtil, "expirationTime", TimeUnit.HOURS.toMillis(1));
+        set(jwtUtil, "cacheMaximumSize", cacheMaximumSize);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    private static void set(JwtUtil jwtUtil, String name, Object value) throws ReflectiveOperationException {
+        Field field = JwtUtil.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtUtil, value);
+    }
+}
@@ -0,0 +1,81 @@
+package com.resume.analyzer.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.analyzer.dto.ResumeAnalysisResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding of a model answer into ResumeAnalysisResponse. {@code perCallMapper} is the old parseAiResponse path,
+ * regex fence stripping plus a new ObjectMapper for every response, {@code streamingParser} is AiResponseParser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AiResponseParsingBenchmark {
+
+    private static final String RESPONSE = """
+            {
+              "MatchScore": 78,
+              "KeyStrengths": [
+                "Six years of Java and Spring Boot development on high traffic services",
+                "Led the migration of a monolith to event driven microservices on Kafka",
+                "Hands-on PostgreSQL performance tuning and schema design"
+              ],
+              "SkillsGap": [
+                "No Kubernetes experience mentioned",
+                "Limited exposure to frontend frameworks"
+              ],
+              "SuggestionsForImprovement": [
+                "Quantify the impact of the microservices migration",
+                "Add the cloud certifications listed in the job description",
+                "Move the technical skills section above education"
+              ],
+              "OverallAssessment": "A strong backend profile that covers most of the core requirements. Highlighting container orchestration and measurable outcomes would close the remaining gaps."
+            }
+            """;
+
+    private static final ObjectMapper SHARED_MAPPER = new ObjectMapper();
+
+    private final AiResponseParser aiResponseParser = new AiResponseParser();
+
+    @Param({"false", "true"})
+    private boolean fenced;
+
+    private String response;
+
+    @Setup
+    public void setUp() {
+        response = fenced ? "```json\n" + RESPONSE + "```" : RESPONSE;
+    }
+
+    @Benchmark
+    public ResumeAnalysisResponse perCallMapper() throws JsonProcessingException {
+        return new ObjectMapper().readValue(TextNormalizer.stripCodeFence(response), ResumeAnalysisResponse.class);
+    }
+
+    @Benchmark
+    public ResumeAnalysisResponse sharedMapper() throws JsonProcessingException {
+        return SHARED_MAPPER.readValue(TextNormalizer.stripCodeFence(response), ResumeAnalysisResponse.class);
+    }
+
+    @Benchmark
+    public ResumeAnalysisResponse streamingParser() {
+        return aiResponseParser.parse(response);
+    }
+}
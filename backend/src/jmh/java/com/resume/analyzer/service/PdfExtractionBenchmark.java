@@ -0,0 +1,104 @@
+package com.resume.analyzer.service;
+
+import com.resume.analyzer.config.PdfExtractionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text extraction over generated resume-like PDFs, measured through PdfTextExtractor as the upload path uses it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfExtractionBenchmark {
+
+    private static final String[] WORDS = {
+            "Senior", "software", "engineer", "with", "experience", "in", "Java", "Spring", "Boot", "PostgreSQL",
+            "Kafka", "AWS", "led", "a", "team", "of", "five", "delivered", "platform", "migration", "2019", "2023"
+    };
+
+    @Param({"1", "5", "20"})
+    private int pages;
+
+    private byte[] pdf;
+    private ExecutorService pdfExecutor;
+    private PdfTextExtractor extractor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        pdf = generatePdf(pages);
+        PdfExtractionProperties properties = new PdfExtractionProperties();
+        pdfExecutor = Executors.newFixedThreadPool(properties.getConcurrency());
+        extractor = new PdfTextExtractor(properties, pdfExecutor, new SimpleMeterRegistry(), ObservationRegistry.NOOP);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pdfExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public String extract() {
+        return extractor.extract(new ByteArrayInputStream(pdf));
+    }
+
+    private static byte[] generatePdf(int pageCount) throws IOException {
+        Random random = new Random(pageCount);
+        try (PDDocument document = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (int p = 0; p < pageCount; p++) {
+                PDPage page = new PDPage(PDRectangle.A4);
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 10);
+                    content.setLeading(12);
+                    content.newLineAtOffset(50, 800);
+                    for (int line = 0; line < 60; line++) {
+                        content.showText(line(random));
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static String line(Random random) {
+        StringBuilder line = new StringBuilder(96);
+        while (line.length() < 80) {
+            line.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return line.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package com.resume.analyzer.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the analysis prompt, comparing the old String.format call with the pre-sized builder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PromptBuildingBenchmark {
+
+    @Param({"2000", "20000"})
+    private int resumeLength;
+
+    private String resumeText;
+    private String jobDescription;
+
+    @Setup
+    public void setUp() {
+        resumeText = TextNormalizer.normalizeExtracted(TextNormalizerBenchmark.sample(resumeLength, 42));
+        jobDescription = TextNormalizer.normalizeExtracted(TextNormalizerBenchmark.sample(1500, 7));
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        return String.format(AnalysisPrompts.ANALYSIS_TEMPLATE, jobDescription, resumeText);
+    }
+
+    @Benchmark
+    public String presizedBuilder() {
+        return AnalysisPrompts.analysisPrompt(jobDescription, resumeText);
+    }
+}
@@ -0,0 +1,69 @@
+package com.resume.analyzer.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the old per-upload text clean up with TextNormalizer.
+ * Run with {@code -prof gc} to see the allocation per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextNormalizerBenchmark {
+
+    private static final String[] WORDS = {
+            "Senior", "software", "engineer", "experi-\nence", "Java", "Spring", "Boot", "PostgreSQL", "\uFB01nance",
+            "e\uFB00ective", "micro\u00ADservices", "\"team\"", "lead", "delivered", "platform", "migration", "Kafka",
+            "AWS", "\\n", "\\r\\n", "\\t", "\u00A0", "built", "APIs", "for", "10M", "users"
+    };
+
+    @Param({"2000", "20000"})
+    private int length;
+
+    private String extracted;
+
+    @Setup
+    public void setUp() {
+        extracted = sample(length, 42);
+    }
+
+    @Benchmark
+    public String legacyReplaceChain() {
+        return extracted
+                .replace("\\r\\n", "\n")
+                .replace("\\n", "\n")
+                .replace("\\t", "\t")
+                .replace("\"", "")
+                .trim();
+    }
+
+    @Benchmark
+    public String singlePassNormalize() {
+        return TextNormalizer.normalizeExtracted(extracted);
+    }
+
+    static String sample(int length, long seed) {
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder(length + 32);
+        while (text.length() < length) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(12) == 0 ? '\n' : ' ');
+        }
+        return text.toString();
+    }
+}
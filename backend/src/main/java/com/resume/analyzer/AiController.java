@@ -1,6 +1,7 @@
 package com.resume.analyzer;
 
-import org.springframework.ai.chat.model.ChatModel;
+import com.resume.analyzer.service.LlmClient;
+import com.resume.analyzer.service.PromptKind;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -10,10 +11,10 @@ import org.springframework.web.bind.annotation.RestController;
 public class AiController {
 
     @Autowired
-    private ChatModel chatClient;
+    private LlmClient llmClient;
 
     @GetMapping("/prompt")
     public String prompt(@RequestParam String prompt) {
-        return chatClient.call(prompt);
+        return llmClient.call(PromptKind.AD_HOC, prompt);
     }
 }
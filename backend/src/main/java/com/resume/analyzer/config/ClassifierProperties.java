@@ -0,0 +1,38 @@
+package com.resume.analyzer.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "classifier")
+public class ClassifierProperties {
+    private boolean heuristicsEnabled = true;
+    private long maximumSize = 50_000;
+    private Duration timeToLive = Duration.ofDays(7);
+
+    public boolean isHeuristicsEnabled() {
+        return heuristicsEnabled;
+    }
+
+    public void setHeuristicsEnabled(boolean heuristicsEnabled) {
+        this.heuristicsEnabled = heuristicsEnabled;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+}
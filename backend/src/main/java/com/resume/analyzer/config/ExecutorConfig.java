@@ -0,0 +1,57 @@
+package com.resume.analyzer.config;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class ExecutorConfig {
+
+    private final ContextSnapshotFactory contextSnapshotFactory = ContextSnapshotFactory.builder().build();
+
+    /**
+     * Model calls block for seconds, so with {@code spring.threads.virtual.enabled} each one gets a virtual thread.
+     * Without it they fall back to an unbounded platform pool, which is only meant for comparing the two modes.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService llmExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return propagatingContext(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("llm-", 0).factory()));
+        }
+        return propagatingContext(Executors.newCachedThreadPool(new CustomizableThreadFactory("llm-")));
+    }
+
+    /**
+     * PDF parsing is CPU bound, so it gets a fixed set of platform threads instead of virtual threads.
+     * The queue is bounded; PdfTextExtractor admits no more tasks than the pool can hold.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService pdfExecutor(PdfExtractionProperties properties) {
+        return propagatingContext(new ThreadPoolExecutor(
+                properties.getConcurrency(),
+                properties.getConcurrency(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("pdf-"),
+                new ThreadPoolExecutor.AbortPolicy()));
+    }
+
+    /**
+     * Tasks run with the submitter's observation and security context, so traces continue across the hand-off
+     * and per-user limits still see the caller.
+     */
+    private ExecutorService propagatingContext(ExecutorService executor) {
+        return ContextExecutorService.wrap(new DelegatingSecurityContextExecutorService(executor), contextSnapshotFactory::captureAll);
+    }
+}
@@ -0,0 +1,92 @@
+package com.resume.analyzer.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "llm.governor")
+public class LlmGovernorProperties {
+    private boolean enabled = true;
+    private double requestsPerSecond = 5;
+    private long tokensPerMinute = 500_000;
+    private int maxConcurrency = 16;
+    private int perUserConcurrency = 4;
+    private int highPriorityReserve = 4;
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+    private Duration lowPriorityAcquireTimeout = Duration.ofSeconds(2);
+    private Duration cooldown = Duration.ofSeconds(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    public void setRequestsPerSecond(double requestsPerSecond) {
+        this.requestsPerSecond = requestsPerSecond;
+    }
+
+    public long getTokensPerMinute() {
+        return tokensPerMinute;
+    }
+
+    public void setTokensPerMinute(long tokensPerMinute) {
+        this.tokensPerMinute = tokensPerMinute;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public int getPerUserConcurrency() {
+        return perUserConcurrency;
+    }
+
+    public void setPerUserConcurrency(int perUserConcurrency) {
+        this.perUserConcurrency = perUserConcurrency;
+    }
+
+    public int getHighPriorityReserve() {
+        return highPriorityReserve;
+    }
+
+    public void setHighPriorityReserve(int highPriorityReserve) {
+        this.highPriorityReserve = highPriorityReserve;
+    }
+
+    public Duration getAcquireTimeout() {
+        return acquireTimeout;
+    }
+
+    public void setAcquireTimeout(Duration acquireTimeout) {
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    public Duration getLowPriorityAcquireTimeout() {
+        return lowPriorityAcquireTimeout;
+    }
+
+    public void setLowPriorityAcquireTimeout(Duration lowPriorityAcquireTimeout) {
+        this.lowPriorityAcquireTimeout = lowPriorityAcquireTimeout;
+    }
+
+    public Duration getCooldown() {
+        return cooldown;
+    }
+
+    public void setCooldown(Duration cooldown) {
+        this.cooldown = cooldown;
+    }
+}
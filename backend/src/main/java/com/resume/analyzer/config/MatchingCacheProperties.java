@@ -0,0 +1,41 @@
+package com.resume.analyzer.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Bounds the in-memory vectors used for match scores. Each vector is 1024 floats, about 4 KB.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "matching.cache")
+public class MatchingCacheProperties {
+    private long resumeMaximumSize = 5_000;
+    private long jobDescriptionMaximumSize = 1_000;
+    private Duration expireAfterAccess = Duration.ofHours(1);
+
+    public long getResumeMaximumSize() {
+        return resumeMaximumSize;
+    }
+
+    public void setResumeMaximumSize(long resumeMaximumSize) {
+        this.resumeMaximumSize = resumeMaximumSize;
+    }
+
+    public long getJobDescriptionMaximumSize() {
+        return jobDescriptionMaximumSize;
+    }
+
+    public void setJobDescriptionMaximumSize(long jobDescriptionMaximumSize) {
+        this.jobDescriptionMaximumSize = jobDescriptionMaximumSize;
+    }
+
+    public Duration getExpireAfterAccess() {
+        return expireAfterAccess;
+    }
+
+    public void setExpireAfterAccess(Duration expireAfterAccess) {
+        this.expireAfterAccess = expireAfterAccess;
+    }
+}
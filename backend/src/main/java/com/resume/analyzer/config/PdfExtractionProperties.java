@@ -0,0 +1,66 @@
+package com.resume.analyzer.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "pdf.extraction")
+public class PdfExtractionProperties {
+    private DataSize maxMainMemory = DataSize.ofMegabytes(16);
+    private int maxPages = 50;
+    private Duration timeout = Duration.ofSeconds(20);
+    private int concurrency = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 100;
+    private Duration queueTimeout = Duration.ofSeconds(30);
+
+    public DataSize getMaxMainMemory() {
+        return maxMainMemory;
+    }
+
+    public void setMaxMainMemory(DataSize maxMainMemory) {
+        this.maxMainMemory = maxMainMemory;
+    }
+
+    public int getMaxPages() {
+        return maxPages;
+    }
+
+    public void setMaxPages(int maxPages) {
+        this.maxPages = maxPages;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getQueueTimeout() {
+        return queueTimeout;
+    }
+
+    public void setQueueTimeout(Duration queueTimeout) {
+        this.queueTimeout = queueTimeout;
+    }
+}
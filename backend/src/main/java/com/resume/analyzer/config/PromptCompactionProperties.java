@@ -0,0 +1,36 @@
+package com.resume.analyzer.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "analysis.compaction")
+public class PromptCompactionProperties {
+    private boolean enabled = true;
+    private int resumeTokenBudget = 3000;
+    private int jobDescriptionTokenBudget = 1500;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getResumeTokenBudget() {
+        return resumeTokenBudget;
+    }
+
+    public void setResumeTokenBudget(int resumeTokenBudget) {
+        this.resumeTokenBudget = resumeTokenBudget;
+    }
+
+    public int getJobDescriptionTokenBudget() {
+        return jobDescriptionTokenBudget;
+    }
+
+    public void setJobDescriptionTokenBudget(int jobDescriptionTokenBudget) {
+        this.jobDescriptionTokenBudget = jobDescriptionTokenBudget;
+    }
+}
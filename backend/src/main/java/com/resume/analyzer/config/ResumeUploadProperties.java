@@ -0,0 +1,46 @@
+package com.resume.analyzer.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+@ConfigurationProperties(prefix = "resume.upload")
+public class ResumeUploadProperties {
+    private DataSize maxFileSize = DataSize.ofMegabytes(10);
+    private DataSize maxArchiveSize = DataSize.ofMegabytes(500);
+    private int maxBatchFiles = 5000;
+    private int saveBatchSize = 50;
+
+    public DataSize getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    public void setMaxFileSize(DataSize maxFileSize) {
+        this.maxFileSize = maxFileSize;
+    }
+
+    public DataSize getMaxArchiveSize() {
+        return maxArchiveSize;
+    }
+
+    public void setMaxArchiveSize(DataSize maxArchiveSize) {
+        this.maxArchiveSize = maxArchiveSize;
+    }
+
+    public int getMaxBatchFiles() {
+        return maxBatchFiles;
+    }
+
+    public void setMaxBatchFiles(int maxBatchFiles) {
+        this.maxBatchFiles = maxBatchFiles;
+    }
+
+    public int getSaveBatchSize() {
+        return saveBatchSize;
+    }
+
+    public void setSaveBatchSize(int saveBatchSize) {
+        this.saveBatchSize = saveBatchSize;
+    }
+}
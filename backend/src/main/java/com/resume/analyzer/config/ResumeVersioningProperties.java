@@ -0,0 +1,36 @@
+package com.resume.analyzer.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "resume.versioning")
+public class ResumeVersioningProperties {
+    private boolean enabled = true;
+    private double minUnchangedShare = 0.5;
+    private double maxDeltaShare = 0.4;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getMinUnchangedShare() {
+        return minUnchangedShare;
+    }
+
+    public void setMinUnchangedShare(double minUnchangedShare) {
+        this.minUnchangedShare = minUnchangedShare;
+    }
+
+    public double getMaxDeltaShare() {
+        return maxDeltaShare;
+    }
+
+    public void setMaxDeltaShare(double maxDeltaShare) {
+        this.maxDeltaShare = maxDeltaShare;
+    }
+}
@@ -0,0 +1,38 @@
+package com.resume.analyzer.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "analysis.speculative")
+public class SpeculativeAnalysisProperties {
+    private boolean enabled = true;
+    private Duration validationTimeout = Duration.ofSeconds(30);
+    private Duration analysisTimeout = Duration.ofSeconds(120);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getValidationTimeout() {
+        return validationTimeout;
+    }
+
+    public void setValidationTimeout(Duration validationTimeout) {
+        this.validationTimeout = validationTimeout;
+    }
+
+    public Duration getAnalysisTimeout() {
+        return analysisTimeout;
+    }
+
+    public void setAnalysisTimeout(Duration analysisTimeout) {
+        this.analysisTimeout = analysisTimeout;
+    }
+}
@@ -0,0 +1,24 @@
+package com.resume.analyzer.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.analyzer.service.SyntheticChatModel;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Replaces the Mistral model with {@link SyntheticChatModel} under the {@code synthetic-llm} profile, for load
+ * tests and local runs that must not spend provider quota.
+ */
+@Configuration
+@Profile("synthetic-llm")
+public class SyntheticChatModelConfig {
+
+    @Bean
+    @Primary
+    public ChatModel syntheticChatModel(SyntheticChatModelProperties properties, ObjectMapper objectMapper) {
+        return new SyntheticChatModel(properties, objectMapper);
+    }
+}
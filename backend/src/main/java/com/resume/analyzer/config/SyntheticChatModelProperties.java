@@ -0,0 +1,65 @@
+package com.resume.analyzer.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "llm.synthetic")
+public class SyntheticChatModelProperties {
+    private String recordingsDirectory;
+    private Duration latencyMedian = Duration.ofMillis(800);
+    private Duration latencyP99 = Duration.ofSeconds(4);
+    private double errorRate = 0.0;
+    private double rateLimitRate = 0.0;
+    private int streamChunkSize = 16;
+
+    public String getRecordingsDirectory() {
+        return recordingsDirectory;
+    }
+
+    public void setRecordingsDirectory(String recordingsDirectory) {
+        this.recordingsDirectory = recordingsDirectory;
+    }
+
+    public Duration getLatencyMedian() {
+        return latencyMedian;
+    }
+
+    public void setLatencyMedian(Duration latencyMedian) {
+        this.latencyMedian = latencyMedian;
+    }
+
+    public Duration getLatencyP99() {
+        return latencyP99;
+    }
+
+    public void setLatencyP99(Duration latencyP99) {
+        this.latencyP99 = latencyP99;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public double getRateLimitRate() {
+        return rateLimitRate;
+    }
+
+    public void setRateLimitRate(double rateLimitRate) {
+        this.rateLimitRate = rateLimitRate;
+    }
+
+    public int getStreamChunkSize() {
+        return streamChunkSize;
+    }
+
+    public void setStreamChunkSize(int streamChunkSize) {
+        this.streamChunkSize = streamChunkSize;
+    }
+}
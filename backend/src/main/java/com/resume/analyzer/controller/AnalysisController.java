@@ -1,10 +1,13 @@
 package com.resume.analyzer.controller;
 
+import com.resume.analyzer.dto.AnalysisPageResponse;
 import com.resume.analyzer.dto.AnalysisResponse;
 import com.resume.analyzer.dto.AnalysisUpdateRequest;
 import com.resume.analyzer.dto.CreateAnalysisRequest;
 import com.resume.analyzer.dto.ResumeAnalysisResponse;
+import com.resume.analyzer.repository.AnalysisHistoryFilter;
 import com.resume.analyzer.service.AnalysisService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,6 +32,19 @@ public class AnalysisController {
         this.analysisService = analysisService;
     }
 
+    @GetMapping
+    public AnalysisPageResponse getAnalysisHistory(@RequestParam(required = false) UUID resumeId,
+                                                   @RequestParam(required = false) Integer minScore,
+                                                   @RequestParam(required = false) Integer maxScore,
+                                                   @RequestParam(required = false) String skillGap,
+                                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "50") int limit) {
+        AnalysisHistoryFilter filter = new AnalysisHistoryFilter(resumeId, minScore, maxScore, skillGap, from, to);
+        return analysisService.getAnalysisHistory(filter, cursor, limit);
+    }
+
     @GetMapping("/{id}")
     public AnalysisResponse getAnalysis(@PathVariable UUID id) {
         return analysisService.getAnalysis(id);
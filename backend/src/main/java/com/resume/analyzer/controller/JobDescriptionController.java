@@ -0,0 +1,34 @@
+package com.resume.analyzer.controller;
+
+import com.resume.analyzer.dto.JobDescriptionRequest;
+import com.resume.analyzer.dto.JobDescriptionResponse;
+import com.resume.analyzer.service.JobDescriptionService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/jobs")
+public class JobDescriptionController {
+
+    private final JobDescriptionService jobDescriptionService;
+
+    public JobDescriptionController(JobDescriptionService jobDescriptionService) {
+        this.jobDescriptionService = jobDescriptionService;
+    }
+
+    @PostMapping
+    public JobDescriptionResponse createJobDescription(@RequestBody JobDescriptionRequest request) {
+        return jobDescriptionService.createJobDescription(request);
+    }
+
+    @GetMapping("/{id}")
+    public JobDescriptionResponse getJobDescription(@PathVariable UUID id) {
+        return jobDescriptionService.getJobDescription(id);
+    }
+}
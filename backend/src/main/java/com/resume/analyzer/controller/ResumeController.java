@@ -1,9 +1,21 @@
 package com.resume.analyzer.controller;
 
+import com.resume.analyzer.dto.AnalysisJobResponse;
+import com.resume.analyzer.dto.BatchUploadResponse;
 import com.resume.analyzer.dto.JobDescriptionRequest;
+import com.resume.analyzer.dto.MatchScoreResponse;
+import com.resume.analyzer.dto.RankRequest;
+import com.resume.analyzer.dto.RankResponse;
 import com.resume.analyzer.dto.ResumeAnalysisResponse;
+import com.resume.analyzer.dto.ResumePageResponse;
 import com.resume.analyzer.dto.ResumeResponse;
+import com.resume.analyzer.exception.TruncatedAnalysisException;
 import com.resume.analyzer.model.Resume;
+import com.resume.analyzer.service.AnalysisJobService;
+import com.resume.analyzer.service.AnalysisStreamService;
+import com.resume.analyzer.service.BatchUploadService;
+import com.resume.analyzer.service.MatchingService;
+import com.resume.analyzer.service.RankingService;
 import com.resume.analyzer.service.ResumeService;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
@@ -18,6 +30,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.UUID;
@@ -27,9 +40,21 @@ import java.util.UUID;
 public class ResumeController {
 
     private final ResumeService resumeService;
+    private final AnalysisJobService analysisJobService;
+    private final AnalysisStreamService analysisStreamService;
+    private final MatchingService matchingService;
+    private final RankingService rankingService;
+    private final BatchUploadService batchUploadService;
 
-    public ResumeController(ResumeService resumeService) {
+    public ResumeController(ResumeService resumeService, AnalysisJobService analysisJobService,
+                            AnalysisStreamService analysisStreamService, MatchingService matchingService,
+                            RankingService rankingService, BatchUploadService batchUploadService) {
         this.resumeService = resumeService;
+        this.analysisJobService = analysisJobService;
+        this.analysisStreamService = analysisStreamService;
+        this.matchingService = matchingService;
+        this.rankingService = rankingService;
+        this.batchUploadService = batchUploadService;
     }
 
     @PostMapping("/upload")
@@ -38,6 +63,11 @@ public class ResumeController {
         return ResponseEntity.ok(savedResume);
     }
 
+    @PostMapping("/upload/batch")
+    public ResponseEntity<BatchUploadResponse> uploadResumes(@RequestParam("files") List<MultipartFile> files) {
+        return ResponseEntity.ok(batchUploadService.uploadResumes(files));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ResumeResponse> getResumeById(@PathVariable UUID id) {
         ResumeResponse resume = resumeService.getResumeById(id);
@@ -45,16 +75,49 @@ public class ResumeController {
     }
 
     @GetMapping("/user/me")
-    public ResponseEntity<List<ResumeResponse>> getResumesByUser() {
-        return ResponseEntity.ok(resumeService.getResumesByUser());
+    public ResponseEntity<ResumePageResponse> getResumesByUser(@RequestParam(required = false) String cursor,
+                                                               @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(resumeService.getResumesByUser(cursor, limit));
     }
 
     @PostMapping("/analyze/{resumeId}")
     public ResponseEntity<ResumeAnalysisResponse> analyzeResume(@PathVariable UUID resumeId, @RequestBody JobDescriptionRequest jobDescription) {
-        ResumeAnalysisResponse analyzed = resumeService.analyzeResumeWithAI(resumeId, jobDescription);
+        ResumeAnalysisResponse analyzed;
+        try {
+            analyzed = resumeService.analyzeResumeWithAI(resumeId, jobDescription);
+        } catch (TruncatedAnalysisException e) {
+            // Shown once with the fields that were complete, it was neither cached nor saved
+            analyzed = e.getPartial();
+        }
         return ResponseEntity.ok(analyzed);
     }
 
+    @PostMapping(value = "/analyze/{resumeId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAnalysis(@PathVariable UUID resumeId, @RequestBody JobDescriptionRequest jobDescription) {
+        return analysisStreamService.streamAnalysis(resumeId, jobDescription);
+    }
+
+    @PostMapping("/analyze/{resumeId}/jobs")
+    public ResponseEntity<AnalysisJobResponse> submitAnalysis(@PathVariable UUID resumeId, @RequestBody JobDescriptionRequest jobDescription) {
+        AnalysisJobResponse job = analysisJobService.submitAnalysis(resumeId, jobDescription);
+        return ResponseEntity.accepted().body(job);
+    }
+
+    @GetMapping("/analyze/jobs/{jobId}")
+    public ResponseEntity<AnalysisJobResponse> getAnalysisJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(analysisJobService.getJob(jobId));
+    }
+
+    @PostMapping("/match/{resumeId}")
+    public ResponseEntity<MatchScoreResponse> matchResume(@PathVariable UUID resumeId, @RequestBody JobDescriptionRequest jobDescription) {
+        return ResponseEntity.ok(matchingService.matchResume(resumeId, jobDescription));
+    }
+
+    @PostMapping("/rank")
+    public ResponseEntity<RankResponse> rankResumes(@RequestBody RankRequest rankRequest) {
+        return ResponseEntity.ok(rankingService.rank(rankRequest));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteResume(@PathVariable UUID id) {
         resumeService.deleteResume(id);
@@ -63,6 +126,7 @@ public class ResumeController {
 
     @GetMapping("/{id}/pdf")
     public ResponseEntity<Resource> downloadPdf(@PathVariable UUID id) {
+        // Spring answers Range requests with 206 for Resource bodies, so the PDF is streamed in slices
         Resource pdfResource = resumeService.getPdfFile(id);
         return ResponseEntity.ok()
                 .contentType(MediaType.APPLICATION_PDF)
@@ -0,0 +1,22 @@
+package com.resume.analyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AnalysisJobResponse {
+    private UUID jobId;
+    private UUID resumeId;
+    private AnalysisJobStatus status;
+    private UUID analysisId;
+    private ResumeAnalysisResponse result;
+    private String error;
+    private LocalDateTime submittedAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,8 @@
+package com.resume.analyzer.dto;
+
+public enum AnalysisJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -13,5 +13,6 @@ public class AnalysisResponse {
     private UUID id;
     private ResumeAnalysisResponse aiSummary;
     private String jobDescription;
+    private UUID jobDescriptionId;
     private UUID resumeId;
 }
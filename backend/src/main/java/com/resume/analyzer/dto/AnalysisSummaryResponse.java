@@ -0,0 +1,22 @@
+package com.resume.analyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AnalysisSummaryResponse {
+    private UUID id;
+    private UUID resumeId;
+    private int matchScore;
+    private List<String> skillsGap = new ArrayList<>();
+    private String overallAssessment;
+    private LocalDateTime analyzedAt;
+}
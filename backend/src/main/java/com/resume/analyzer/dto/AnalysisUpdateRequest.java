@@ -4,10 +4,13 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.UUID;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class AnalysisUpdateRequest {
     private String jobDescription;
+    private UUID jobDescriptionId; // A stored job description, used instead of jobDescription when set
     private ResumeAnalysisResponse aiSummary;
 }
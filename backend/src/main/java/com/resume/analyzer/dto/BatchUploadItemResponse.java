@@ -0,0 +1,17 @@
+package com.resume.analyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchUploadItemResponse {
+    private String fileName;
+    private BatchUploadStatus status;
+    private UUID resumeId;
+    private String message;
+}
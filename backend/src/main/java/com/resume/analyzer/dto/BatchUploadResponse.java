@@ -0,0 +1,17 @@
+package com.resume.analyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchUploadResponse {
+    private int uploaded;
+    private int rejected;
+    private int failed;
+    private List<BatchUploadItemResponse> items;
+}
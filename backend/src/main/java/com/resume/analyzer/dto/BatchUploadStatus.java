@@ -0,0 +1,7 @@
+package com.resume.analyzer.dto;
+
+public enum BatchUploadStatus {
+    UPLOADED,
+    REJECTED,
+    FAILED
+}
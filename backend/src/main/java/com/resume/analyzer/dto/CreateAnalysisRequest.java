@@ -12,5 +12,6 @@ import java.util.UUID;
 public class CreateAnalysisRequest {
     private UUID resumeId;
     private String jobDescription;
+    private UUID jobDescriptionId; // A stored job description, used instead of jobDescription when set
     private ResumeAnalysisResponse aiSummary;
 }
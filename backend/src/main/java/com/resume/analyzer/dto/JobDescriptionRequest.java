@@ -4,9 +4,16 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.UUID;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class JobDescriptionRequest {
     private String jobDescription;
+    private UUID jobDescriptionId; // A stored job description, used instead of jobDescription when set
+
+    public JobDescriptionRequest(String jobDescription) {
+        this.jobDescription = jobDescription;
+    }
 }
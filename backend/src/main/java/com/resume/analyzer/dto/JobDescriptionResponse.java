@@ -0,0 +1,19 @@
+package com.resume.analyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobDescriptionResponse {
+    private UUID id;
+    private String text;
+    private Boolean valid;
+    private JobRequirements requirements;
+    private LocalDateTime createdAt;
+}
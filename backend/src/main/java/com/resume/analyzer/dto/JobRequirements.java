@@ -0,0 +1,17 @@
+package com.resume.analyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRequirements {
+    private List<String> skills = new ArrayList<>();
+    private Integer minYearsExperience;
+    private String seniority;
+}
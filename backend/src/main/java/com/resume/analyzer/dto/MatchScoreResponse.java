@@ -0,0 +1,16 @@
+package com.resume.analyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MatchScoreResponse {
+    private UUID resumeId;
+    private int matchScore; // 0-100, cosine similarity scaled
+    private double similarity;
+}
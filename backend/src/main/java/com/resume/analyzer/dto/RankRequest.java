@@ -0,0 +1,14 @@
+package com.resume.analyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RankRequest {
+    private String jobDescription;
+    private int limit = 10;
+    private int analyzeTop = 0; // Number of top results to also run through the full AI analysis
+}
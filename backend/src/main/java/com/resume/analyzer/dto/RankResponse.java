@@ -0,0 +1,15 @@
+package com.resume.analyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RankResponse {
+    private List<RankedResumeResponse> results;
+    private int indexedResumes;
+}
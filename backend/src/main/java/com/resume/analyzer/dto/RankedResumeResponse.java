@@ -0,0 +1,16 @@
+package com.resume.analyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RankedResumeResponse {
+    private UUID resumeId;
+    private double score;
+    private ResumeAnalysisResponse analysis;
+}
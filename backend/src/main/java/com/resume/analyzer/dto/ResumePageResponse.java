@@ -0,0 +1,15 @@
+package com.resume.analyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResumePageResponse {
+    private List<ResumeSummaryResponse> items;
+    private String nextCursor; // Pass back as ?cursor= to fetch the next page, null on the last page
+}
@@ -28,4 +28,8 @@ public class ResumeResponse {
     private UUID userId;
 
     private LocalDateTime uploadedAt;
+
+    private Integer version;
+
+    private UUID previousVersionId;
 }
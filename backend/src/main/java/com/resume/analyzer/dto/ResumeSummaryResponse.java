@@ -0,0 +1,19 @@
+package com.resume.analyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResumeSummaryResponse {
+    private UUID id;
+    private String fileName;
+    private String fileType;
+    private Long fileSize;
+    private LocalDateTime uploadedAt;
+}
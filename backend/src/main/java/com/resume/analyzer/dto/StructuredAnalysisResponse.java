@@ -0,0 +1,58 @@
+package com.resume.analyzer.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Answer of the single structured analysis call: the validity checks and the analysis in one object. The checks
+ * are required and stay null when the model leaves them out, so a missing check never reads as a pass.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonPropertyOrder({"ResumeValid", "JobDescriptionValid", "MatchScore", "KeyStrengths", "SkillsGap",
+        "SuggestionsForImprovement", "OverallAssessment"})
+public class StructuredAnalysisResponse {
+    @JsonProperty(value = "ResumeValid", required = true)
+    @JsonPropertyDescription("true if the resume text is a resume or CV")
+    private Boolean resumeValid;
+
+    @JsonProperty(value = "JobDescriptionValid", required = true)
+    @JsonPropertyDescription("true if the job description text is a valid job description")
+    private Boolean jobDescriptionValid;
+
+    @JsonProperty("MatchScore")
+    @JsonPropertyDescription("How well the resume aligns with the job description, 0 to 100")
+    private int matchScore = 0;
+
+    @JsonProperty("KeyStrengths")
+    private List<String> keyStrengths = new ArrayList<>();
+
+    @JsonProperty("SkillsGap")
+    private List<String> skillsGap = new ArrayList<>();
+
+    @JsonProperty("SuggestionsForImprovement")
+    private List<String> suggestionsForImprovement = new ArrayList<>();
+
+    @JsonProperty("OverallAssessment")
+    private String overallAssessment = "";
+
+    public ResumeAnalysisResponse toAnalysis() {
+        ResumeAnalysisResponse response = new ResumeAnalysisResponse();
+        response.setMatchScore(Math.max(0, Math.min(100, matchScore)));
+        response.setKeyStrengths(keyStrengths == null ? new ArrayList<>() : keyStrengths);
+        response.setSkillsGap(skillsGap == null ? new ArrayList<>() : skillsGap);
+        response.setSuggestionsForImprovement(suggestionsForImprovement == null ? new ArrayList<>() : suggestionsForImprovement);
+        response.setOverallAssessment(overallAssessment == null ? "" : overallAssessment);
+        return response;
+    }
+}
@@ -0,0 +1,7 @@
+package com.resume.analyzer.exception;
+
+public class AnalysisJobNotFoundException extends RuntimeException {
+    public AnalysisJobNotFoundException(String message) {
+        super(message);
+    }
+}
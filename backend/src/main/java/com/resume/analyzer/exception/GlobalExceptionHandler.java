@@ -10,11 +10,33 @@ import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String UNEXPECTED_ERROR = "An unexpected error occurred";
+
+    // Exceptions whose message the handlers below pass on to clients
+    private static final List<Class<? extends RuntimeException>> CLIENT_FACING = List.of(
+            UserCreationException.class, UserNotFoundException.class, ResumeAnalyzeException.class,
+            ResumeUploadException.class, ResumeStorageException.class, InvalidCursorException.class,
+            AnalysisNotFoundException.class, JobDescriptionNotFoundException.class, ResumeNotFoundException.class,
+            AnalysisJobNotFoundException.class, AnalysisQueueFullException.class, LlmCapacityException.class
+    );
+
+    /**
+     * The message a client gets for {@code ex} from these handlers, for failures reported outside a request.
+     */
+    public static String clientMessage(Throwable ex) {
+        for (Class<? extends RuntimeException> type : CLIENT_FACING) {
+            if (type.isInstance(ex)) {
+                return ex.getMessage();
+            }
+        }
+        return UNEXPECTED_ERROR;
+    }
 
     @ExceptionHandler(UserCreationException.class)
     public ResponseEntity<ErrorResponse> handleUserCreationException(UserCreationException ex) {
@@ -74,6 +96,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
 
+    @ExceptionHandler(ResumeStorageException.class)
+    public ResponseEntity<ErrorResponse> handleResumeStorageException(ResumeStorageException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                "Resume file storage failed"
+        );
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                "Pass back the nextCursor value from the previous page"
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     @ExceptionHandler(AnalysisNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleAnalysisNotFoundException(AnalysisNotFoundException ex) {
         ErrorResponse errorResponse = new ErrorResponse(
@@ -83,6 +125,16 @@ public class GlobalExceptionHandler {
         );
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
+
+    @ExceptionHandler(JobDescriptionNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleJobDescriptionNotFoundException(JobDescriptionNotFoundException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                "Job description not found"
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
     @ExceptionHandler(ResumeNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResumeNotFoundException(ResumeNotFoundException ex) {
         ErrorResponse errorResponse = new ErrorResponse(
@@ -93,12 +145,41 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler(AnalysisJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleAnalysisJobNotFoundException(AnalysisJobNotFoundException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                "Analysis job not found or expired"
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(AnalysisQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleAnalysisQueueFullException(AnalysisQueueFullException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                "Analysis queue is full"
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(errorResponse);
+    }
+
+    @ExceptionHandler(LlmCapacityException.class)
+    public ResponseEntity<ErrorResponse> handleLlmCapacityException(LlmCapacityException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                "AI service is at capacity"
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(errorResponse);
+    }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
         ErrorResponse errorResponse = new ErrorResponse(
                 LocalDateTime.now(),
-                "An unexpected error occurred",
+                UNEXPECTED_ERROR,
                 ex.getMessage()
         );
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
@@ -0,0 +1,7 @@
+package com.resume.analyzer.exception;
+
+public class JobDescriptionNotFoundException extends RuntimeException {
+    public JobDescriptionNotFoundException(String message) {
+        super(message);
+    }
+}
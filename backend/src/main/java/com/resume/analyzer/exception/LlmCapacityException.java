@@ -0,0 +1,17 @@
+package com.resume.analyzer.exception;
+
+public class LlmCapacityException extends RuntimeException {
+    private final boolean shed;
+
+    public LlmCapacityException(String message, boolean shed) {
+        super(message);
+        this.shed = shed;
+    }
+
+    /**
+     * True when low-priority work was dropped up front to leave capacity for analyses.
+     */
+    public boolean isShed() {
+        return shed;
+    }
+}
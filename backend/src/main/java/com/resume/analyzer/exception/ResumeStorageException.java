@@ -0,0 +1,11 @@
+package com.resume.analyzer.exception;
+
+public class ResumeStorageException extends RuntimeException {
+    public ResumeStorageException(String message) {
+        super(message);
+    }
+
+    public ResumeStorageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,20 @@
+package com.resume.analyzer.exception;
+
+import com.resume.analyzer.dto.ResumeAnalysisResponse;
+
+/**
+ * A model answer that was cut off after its match score and assessment. The complete fields can be shown, but
+ * the analysis must not be cached or saved as the result for its inputs.
+ */
+public class TruncatedAnalysisException extends ResumeAnalyzeException {
+    private final transient ResumeAnalysisResponse partial;
+
+    public TruncatedAnalysisException(ResumeAnalysisResponse partial) {
+        super("The AI response was cut off, please retry.");
+        this.partial = partial;
+    }
+
+    public ResumeAnalysisResponse getPartial() {
+        return partial;
+    }
+}
@@ -7,9 +7,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -28,6 +30,11 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_analysis_cache_key", columnList = "cache_key"),
+        @Index(name = "idx_analysis_resume_analyzed_at", columnList = "resume_id, analyzed_at DESC, id DESC"),
+        @Index(name = "idx_analysis_job_description", columnList = "job_description_id")
+})
 public class Analysis {
 
     @Id
@@ -38,16 +45,25 @@ public class Analysis {
     @Column(columnDefinition = "jsonb", nullable = false)
     private ResumeAnalysisResponse aiSummary;
 
-    @NotNull
-    @Column(columnDefinition = "TEXT")
-    private String jobDescription;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_description_id")
+    private JobDescription jobDescription;
 
-    @ManyToOne
+    @Column(name = "job_description", columnDefinition = "TEXT")
+    private String jobDescriptionText; // Inline text of analyses saved before job descriptions were stored once
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "resume_id", nullable = false)
     @NotNull(message = "Resume cannot be null")
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Resume resume;
 
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey; // Hash of the analysis inputs, see AnalysisCache
+
+    @Column(name = "delta_base_id")
+    private UUID deltaBaseId; // Resume version whose full analysis this one updates, null for a full analysis
+
     @CreationTimestamp
     private LocalDateTime analyzedAt;
 }
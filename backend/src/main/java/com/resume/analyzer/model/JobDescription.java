@@ -0,0 +1,52 @@
+package com.resume.analyzer.model;
+
+import com.resume.analyzer.dto.JobRequirements;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = @Index(name = "idx_job_description_content_hash", columnList = "content_hash", unique = true))
+public class JobDescription {
+
+    @Id
+    @GeneratedValue
+    private UUID id;
+
+    @Column(name = "content_hash", length = 64, nullable = false)
+    private String contentHash; // Hash of the normalized text, see JobDescriptionServiceImpl
+
+    @NotBlank(message = "Job description cannot be blank")
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String text;
+
+    private Boolean valid; // Verdict of the classifier, null while pending after the check was shed
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private JobRequirements requirements; // Extracted once, see RequirementExtractor
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(columnDefinition = "real[]")
+    private float[] embedding; // Hashed term vector of text, see TextVectorizer
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
@@ -1,29 +1,39 @@
 package com.resume.analyzer.model;
 
 import jakarta.persistence.Basic;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Entity
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_resume_user_uploaded_at", columnList = "user_id, uploaded_at"),
+        @Index(name = "idx_resume_user_file_name", columnList = "user_id, file_name")
+})
 public class Resume {
     @Id
     @GeneratedValue
@@ -41,7 +51,30 @@ public class Resume {
 
     @Lob
     @Basic(fetch = FetchType.LAZY)
-    private byte[] fileData; // Actual PDF file data
+    private byte[] fileData; // Legacy inline PDF data, new uploads go to the ResumeBlobStore
+
+    private String storageKey; // Key of the PDF in the ResumeBlobStore
+
+    private Long fileSize;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(columnDefinition = "real[]")
+    private float[] embedding; // Hashed term vector of parsedText, see TextVectorizer
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "section_hashes", columnDefinition = "jsonb")
+    private List<String> sectionHashes; // Per-section content hashes, see ResumeSections
+
+    private Integer version; // 1 for a new resume, incremented for each re-upload of it
+
+    @Column(name = "previous_version_id")
+    private UUID previousVersionId;
+
+    @Column(name = "model_verified")
+    private Boolean modelVerified; // Passed a model resume check, not just the local heuristics
+
+    @Column(name = "verified_version_id")
+    private UUID verifiedVersionId; // Latest earlier version of this resume that passed a model check
 
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
@@ -50,5 +83,6 @@ public class Resume {
     private User user;
 
     @CreationTimestamp
+    @Column(name = "uploaded_at")
     private LocalDateTime uploadedAt;
 }
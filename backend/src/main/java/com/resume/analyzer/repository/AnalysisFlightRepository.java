@@ -0,0 +1,50 @@
+package com.resume.analyzer.repository;
+
+import com.resume.analyzer.dto.ResumeAnalysisResponse;
+import com.resume.analyzer.model.AnalysisFlight;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface AnalysisFlightRepository extends JpaRepository<AnalysisFlight, String> {
+
+    /**
+     * Inserts a running claim, or takes over one that failed or whose lease ran out. Returns 1 when this caller
+     * now owns the analysis. Timestamps come from the database so nodes with drifting clocks agree.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO analysis_flight (cache_key, status, started_at, updated_at)
+            VALUES (:cacheKey, 'RUNNING', LOCALTIMESTAMP, LOCALTIMESTAMP)
+            ON CONFLICT (cache_key) DO UPDATE
+                SET status = 'RUNNING', result = NULL, started_at = LOCALTIMESTAMP, updated_at = LOCALTIMESTAMP
+                WHERE analysis_flight.status = 'FAILED'
+                   OR analysis_flight.updated_at < LOCALTIMESTAMP - (:leaseSeconds * INTERVAL '1 second')
+            """, nativeQuery = true)
+    int claim(@Param("cacheKey") String cacheKey, @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * Renews the lease of a running claim while its leader is still working.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE analysis_flight SET updated_at = LOCALTIMESTAMP WHERE cache_key = :cacheKey AND status = 'RUNNING'",
+            nativeQuery = true)
+    int heartbeat(@Param("cacheKey") String cacheKey);
+
+    @Modifying
+    @Transactional
+    @Query("update AnalysisFlight f set f.status = :status, f.result = :result, f.updatedAt = local datetime where f.cacheKey = :cacheKey")
+    int finish(@Param("cacheKey") String cacheKey,
+               @Param("status") AnalysisFlight.Status status,
+               @Param("result") ResumeAnalysisResponse result);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM analysis_flight WHERE updated_at < LOCALTIMESTAMP - (:leaseSeconds * INTERVAL '1 second')",
+            nativeQuery = true)
+    int deleteExpired(@Param("leaseSeconds") long leaseSeconds);
+}
@@ -0,0 +1,12 @@
+package com.resume.analyzer.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Optional predicates for an analysis history query, {@code null} means no restriction. {@code from} is
+ * inclusive and {@code to} exclusive.
+ */
+public record AnalysisHistoryFilter(UUID resumeId, Integer minScore, Integer maxScore, String skillGap,
+                                    LocalDateTime from, LocalDateTime to) {
+}
@@ -0,0 +1,67 @@
+package com.resume.analyzer.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Creates the indexes on {@code analysis.ai_summary} that JPA annotations can't express. Hibernate has created
+ * the table by the time the application is ready; the indexes are built concurrently so existing tables stay
+ * writable. A statement that fails, e.g. {@code pg_trgm} without the privilege to install it, only loses that
+ * index and the queries fall back to filtering rows found through the other indexes. A concurrent build that
+ * failed leaves an INVALID index behind, which {@code IF NOT EXISTS} would skip, so such an index is dropped and
+ * built again.
+ */
+@Component
+@ConditionalOnProperty(name = "analysis.history.create-indexes", havingValue = "true", matchIfMissing = true)
+public class AnalysisIndexInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalysisIndexInitializer.class);
+
+    private record Statement(String index, String sql) {
+    }
+
+    private static final List<Statement> STATEMENTS = List.of(
+            new Statement("idx_analysis_match_score", "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_analysis_match_score ON analysis (("
+                    + "CAST(ai_summary->>'MatchScore' AS integer)), analyzed_at DESC)"),
+            new Statement(null, "CREATE EXTENSION IF NOT EXISTS pg_trgm"),
+            new Statement("idx_analysis_skills_gap_trgm", "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_analysis_skills_gap_trgm ON analysis USING gin (("
+                    + "ai_summary->>'SkillsGap') gin_trgm_ops)")
+    );
+
+    private static final String INVALID_INDEX = "SELECT count(*) FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid "
+            + "WHERE c.relname = ? AND NOT i.indisvalid";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AnalysisIndexInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        for (Statement statement : STATEMENTS) {
+            try {
+                if (statement.index() != null && isInvalid(statement.index())) {
+                    log.warn("Rebuilding invalid index {}", statement.index());
+                    jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + statement.index());
+                }
+                jdbcTemplate.execute(statement.sql());
+            } catch (DataAccessException e) {
+                log.warn("Could not run '{}': {}", statement.sql(), e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private boolean isInvalid(String index) {
+        Integer invalid = jdbcTemplate.queryForObject(INVALID_INDEX, Integer.class, index);
+        return invalid != null && invalid > 0;
+    }
+}
@@ -1,12 +1,28 @@
 package com.resume.analyzer.repository;
 
+import com.resume.analyzer.dto.AnalysisResponse;
 import com.resume.analyzer.model.Analysis;
-import com.resume.analyzer.model.Resume;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface AnalysisRepository extends JpaRepository<Analysis, UUID> {
-    List<Analysis> findByResumeId(UUID resumeId);
+public interface AnalysisRepository extends JpaRepository<Analysis, UUID>, AnalysisRepositoryCustom {
+
+    @Query("""
+            select new com.resume.analyzer.dto.AnalysisResponse(a.id, a.aiSummary, coalesce(j.text, a.jobDescriptionText),
+                                                                j.id, a.resume.id)
+            from Analysis a
+            left join a.jobDescription j
+            where a.resume.id = :resumeId
+            order by a.analyzedAt desc, a.id desc
+            """)
+    List<AnalysisResponse> findResponsesByResumeId(@Param("resumeId") UUID resumeId);
+
+    Optional<Analysis> findFirstByCacheKeyOrderByAnalyzedAtDesc(String cacheKey);
+
+    Optional<Analysis> findFirstByResumeIdAndCacheKeyOrderByAnalyzedAtDesc(UUID resumeId, String cacheKey);
 }
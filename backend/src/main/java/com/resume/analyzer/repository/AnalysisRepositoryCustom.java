@@ -0,0 +1,16 @@
+package com.resume.analyzer.repository;
+
+import com.resume.analyzer.dto.AnalysisSummaryResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface AnalysisRepositoryCustom {
+
+    /**
+     * A page of the user's analyses, newest first, after the (analyzedAt, id) keyset position when given.
+     */
+    List<AnalysisSummaryResponse> findHistory(UUID userId, AnalysisHistoryFilter filter,
+                                              LocalDateTime afterAnalyzedAt, UUID afterId, int limit);
+}
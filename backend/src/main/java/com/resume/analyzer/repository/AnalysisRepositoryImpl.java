@@ -0,0 +1,126 @@
+package com.resume.analyzer.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.analyzer.dto.AnalysisSummaryResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Builds the history query from only the predicates that are set, so Postgres plans each shape against the
+ * matching index: {@code idx_analysis_resume_analyzed_at} for the keyset, the {@code MatchScore} expression
+ * index for score ranges and the trigram index for skill gaps (see {@link AnalysisIndexInitializer}).
+ * Only the summary fields are read out of {@code ai_summary}; the job description is never loaded.
+ */
+public class AnalysisRepositoryImpl implements AnalysisRepositoryCustom {
+
+    private static final String MATCH_SCORE = "CAST(a.ai_summary->>'MatchScore' AS integer)";
+    private static final String SKILLS_GAP = "(a.ai_summary->>'SkillsGap')";
+
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {
+    };
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+
+    public AnalysisRepositoryImpl(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public List<AnalysisSummaryResponse> findHistory(UUID userId, AnalysisHistoryFilter filter,
+                                                     LocalDateTime afterAnalyzedAt, UUID afterId, int limit) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT a.id, a.resume_id, %s, CAST(a.ai_summary->'SkillsGap' AS text),
+                       a.ai_summary->>'OverallAssessment', a.analyzed_at
+                FROM analysis a
+                JOIN resume r ON r.id = a.resume_id
+                WHERE r.user_id = :userId
+                """.formatted(MATCH_SCORE));
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("userId", userId);
+
+        if (filter.resumeId() != null) {
+            sql.append(" AND a.resume_id = :resumeId");
+            parameters.put("resumeId", filter.resumeId());
+        }
+        if (filter.minScore() != null) {
+            sql.append(" AND ").append(MATCH_SCORE).append(" >= :minScore");
+            parameters.put("minScore", filter.minScore());
+        }
+        if (filter.maxScore() != null) {
+            sql.append(" AND ").append(MATCH_SCORE).append(" <= :maxScore");
+            parameters.put("maxScore", filter.maxScore());
+        }
+        if (filter.skillGap() != null && !filter.skillGap().isBlank()) {
+            sql.append(" AND ").append(SKILLS_GAP).append(" ILIKE :skillGap");
+            parameters.put("skillGap", "%" + escapeLike(filter.skillGap().strip()) + "%");
+        }
+        if (filter.from() != null) {
+            sql.append(" AND a.analyzed_at >= :from");
+            parameters.put("from", filter.from());
+        }
+        if (filter.to() != null) {
+            sql.append(" AND a.analyzed_at < :to");
+            parameters.put("to", filter.to());
+        }
+        if (afterAnalyzedAt != null && afterId != null) {
+            sql.append(" AND (a.analyzed_at, a.id) < (:afterAnalyzedAt, :afterId)");
+            parameters.put("afterAnalyzedAt", afterAnalyzedAt);
+            parameters.put("afterId", afterId);
+        }
+        sql.append(" ORDER BY a.analyzed_at DESC, a.id DESC LIMIT :limit");
+        parameters.put("limit", limit);
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        parameters.forEach(query::setParameter);
+
+        List<?> rows = query.getResultList();
+        List<AnalysisSummaryResponse> summaries = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            summaries.add(new AnalysisSummaryResponse(
+                    (UUID) columns[0],
+                    (UUID) columns[1],
+                    columns[2] == null ? 0 : ((Number) columns[2]).intValue(),
+                    readStrings((String) columns[3]),
+                    (String) columns[4],
+                    toLocalDateTime(columns[5])));
+        }
+        return summaries;
+    }
+
+    private List<String> readStrings(String json) {
+        if (json == null) {
+            return new ArrayList<>();
+        }
+        try {
+            return objectMapper.readValue(json, STRING_LIST);
+        } catch (JsonProcessingException e) {
+            return new ArrayList<>();
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
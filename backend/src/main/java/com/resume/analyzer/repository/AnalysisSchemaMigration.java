@@ -0,0 +1,45 @@
+package com.resume.analyzer.repository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Column changes {@code ddl-auto=update} doesn't make to existing tables. Depends on the entity manager factory
+ * so Hibernate has updated the schema first, and runs before the application takes requests.
+ */
+@Component
+public class AnalysisSchemaMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalysisSchemaMigration.class);
+
+    private static final List<String> STATEMENTS = List.of(
+            // Analyses reference a stored job description, the inline text only remains on older rows
+            "ALTER TABLE analysis ALTER COLUMN job_description DROP NOT NULL",
+            // A job description whose check was shed is stored without a verdict
+            "ALTER TABLE job_description ALTER COLUMN valid DROP NOT NULL"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AnalysisSchemaMigration(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        for (String statement : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (DataAccessException e) {
+                log.warn("Could not run '{}': {}", statement, e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.resume.analyzer.repository;
+
+import com.resume.analyzer.model.JobDescription;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface JobDescriptionRepository extends JpaRepository<JobDescription, UUID> {
+    Optional<JobDescription> findByContentHash(String contentHash);
+
+    @Modifying
+    @Transactional
+    @Query("update JobDescription j set j.valid = :valid where j.id = :id")
+    void updateValid(@Param("id") UUID id, @Param("valid") boolean valid);
+}
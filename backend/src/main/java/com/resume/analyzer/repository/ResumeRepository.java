@@ -1,12 +1,80 @@
 package com.resume.analyzer.repository;
 
+import com.resume.analyzer.dto.ResumeSummaryResponse;
 import com.resume.analyzer.model.Resume;
 import com.resume.analyzer.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ResumeRepository extends JpaRepository<Resume, UUID> {
     List<Resume> findByUserId(UUID userId);
+
+    Optional<Resume> findFirstByUserIdAndFileNameOrderByUploadedAtDesc(UUID userId, String fileName);
+
+    @Query("""
+            select new com.resume.analyzer.dto.ResumeSummaryResponse(r.id, r.fileName, r.fileType, r.fileSize, r.uploadedAt)
+            from Resume r
+            where r.user.id = :userId
+            order by r.uploadedAt desc, r.id desc
+            """)
+    List<ResumeSummaryResponse> findSummariesByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("""
+            select new com.resume.analyzer.dto.ResumeSummaryResponse(r.id, r.fileName, r.fileType, r.fileSize, r.uploadedAt)
+            from Resume r
+            where r.user.id = :userId
+              and (r.uploadedAt < :uploadedAt or (r.uploadedAt = :uploadedAt and r.id < :id))
+            order by r.uploadedAt desc, r.id desc
+            """)
+    List<ResumeSummaryResponse> findSummariesByUserIdAfter(@Param("userId") UUID userId,
+                                                          @Param("uploadedAt") LocalDateTime uploadedAt,
+                                                          @Param("id") UUID id,
+                                                          Pageable pageable);
+
+    interface EmbeddingView {
+        float[] getEmbedding();
+    }
+
+    @Query("select r.embedding as embedding from Resume r where r.id = :id")
+    Optional<EmbeddingView> findEmbeddingById(@Param("id") UUID id);
+
+    @Modifying
+    @Transactional
+    @Query("update Resume r set r.embedding = :embedding where r.id = :id")
+    void updateEmbedding(@Param("id") UUID id, @Param("embedding") float[] embedding);
+
+    @Modifying
+    @Transactional
+    @Query("update Resume r set r.modelVerified = true where r.id = :id")
+    void markModelVerified(@Param("id") UUID id);
+
+    interface StoredFileView {
+        UUID getId();
+
+        String getStorageKey();
+    }
+
+    @Query("select r.id as id, r.storageKey as storageKey from Resume r where r.user.id = :userId")
+    List<StoredFileView> findStoredFilesByUserId(@Param("userId") UUID userId);
+
+    interface IndexView {
+        UUID getId();
+
+        UUID getUserId();
+
+        String getParsedText();
+    }
+
+    @Query("select r.id as id, r.user.id as userId, r.parsedText as parsedText from Resume r order by r.id")
+    Slice<IndexView> findIndexViews(Pageable pageable);
 }
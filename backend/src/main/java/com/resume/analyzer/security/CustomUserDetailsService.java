@@ -1,25 +1,62 @@
 package com.resume.analyzer.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.resume.analyzer.model.User;
 import com.resume.analyzer.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.util.ArrayList;
 
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final Cache<String, CustomUserPrincipal> principals;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    @Value("${security.principal-cache.time-to-live:60s}") Duration timeToLive,
+                                    @Value("${security.principal-cache.maximum-size:10000}") long maximumSize) {
         this.userRepository = userRepository;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return principals.get(username, this::loadPrincipal);
+    }
+
+    /**
+     * Drops the cached principal so the next request sees the user's current state. Inside a transaction
+     * this waits for the commit, otherwise a concurrent request could cache the old row again.
+     */
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principals.invalidate(username);
+                }
+            });
+        } else {
+            principals.invalidate(username);
+        }
+    }
+
+    private CustomUserPrincipal loadPrincipal(String username) {
         User user = userRepository.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + username));
 
@@ -1,10 +1,15 @@
 package com.resume.analyzer.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -14,7 +19,9 @@ import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
@@ -25,9 +32,45 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private long expirationTime;
 
-    private SecretKey getSignKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    @Value("${jwt.cache.maximum-size:10000}")
+    private long cacheMaximumSize;
+
+    private SecretKey signKey;
+    private JwtParser parser;
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    /**
+     * Claims of a token whose signature has been checked. Cached until the token itself expires.
+     */
+    public record VerifiedToken(String username, UUID userId, Date expiresAt) {
+    }
+
+    @PostConstruct
+    void init() {
+        signKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signKey)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+                        long remainingMillis = verified.expiresAt().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     public String generateToken(String username, UUID userId) {
@@ -42,43 +85,54 @@ public class JwtUtil {
                 .setSubject(subject)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expirationTime))
-                .signWith(getSignKey(), SignatureAlgorithm.HS512)
+                .signWith(signKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    public boolean validateToken(String token, UserDetails userDetails) {
+    /**
+     * Parses and verifies the token once, returning empty for a bad signature, malformed or expired token.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
         try {
-            String username = getUsernameFromToken(token);
-            return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+            Claims claims = getClaimsFromToken(token);
+            String userId = claims.get("userId", String.class);
+            if (claims.getSubject() == null || userId == null || claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            VerifiedToken verified = new VerifiedToken(claims.getSubject(), UUID.fromString(userId), claims.getExpiration());
+            verifiedTokens.put(token, verified);
+            return Optional.of(verified);
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
+    public boolean validateToken(String token, UserDetails userDetails) {
+        return verify(token)
+                .map(verified -> verified.username().equals(userDetails.getUsername()) && !isTokenExpired(verified))
+                .orElse(false);
+    }
+
     public String getUsernameFromToken(String token) {
         return getClaimsFromToken(token).getSubject();
     }
 
-    private boolean isTokenExpired(String token) {
-        return getClaimsFromToken(token)
-                .getExpiration()
-                .before(new Date());
+    private boolean isTokenExpired(VerifiedToken verified) {
+        return verified.expiresAt().before(new Date());
     }
 
     public String getUserIdFromToken(String token) {
-        try {
-            return getClaimsFromToken(token)
-                    .get("userId", String.class);
-        } catch (Exception e) {
-            return null;
-        }
+        return verify(token)
+                .map(verified -> verified.userId().toString())
+                .orElse(null);
     }
 
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 }
@@ -1,6 +1,9 @@
 package com.resume.analyzer.security;
 
 import com.resume.analyzer.config.CorsProperties;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -23,32 +26,49 @@ import java.util.List;
 @EnableWebSecurity
 public class SecurityConfig {
 
-    private final CustomUserDetailsService customUserDetailsService;
-    private final JwtUtil jwtUtil;
+    private final JwtRequestFilter jwtRequestFilter;
     private final CorsProperties corsProperties;
+    private final int managementPort;
 
-    public SecurityConfig(CustomUserDetailsService customUserDetailsService, 
-                        JwtUtil jwtUtil,
-                        CorsProperties corsProperties) {
-        this.customUserDetailsService = customUserDetailsService;
-        this.jwtUtil = jwtUtil;
+    public SecurityConfig(JwtRequestFilter jwtRequestFilter,
+                        CorsProperties corsProperties,
+                        @Value("${management.server.port:-1}") int managementPort) {
+        this.jwtRequestFilter = jwtRequestFilter;
         this.corsProperties = corsProperties;
+        this.managementPort = managementPort;
     }
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http.cors(x -> x.configurationSource(corsConfigurationSource()))
                 .csrf(AbstractHttpConfigurer::disable)
-                .authorizeHttpRequests(x -> x.
-                        requestMatchers("/authenticate", "/swagger-ui/*", "/api-docs", "/api-docs/*", "/api/v1/users").permitAll()
+                .authorizeHttpRequests(x -> x
+                        // Streamed responses complete on an async dispatch that was already authorized on the way in
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers("/authenticate", "/swagger-ui/*", "/api-docs", "/api-docs/*", "/api/v1/users").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        // Scrapers reach metrics without a token only on the management port, which is not published
+                        .requestMatchers(request -> request.getLocalPort() == managementPort
+                                && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(x -> x.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .addFilterBefore(new JwtRequestFilter(customUserDetailsService, jwtUtil), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtRequestFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 
+    /**
+     * The filter only belongs in the security chain; without this Boot would also register it as a plain servlet filter
+     * and every request would be authenticated twice.
+     */
+    @Bean
+    public FilterRegistrationBean<JwtRequestFilter> jwtRequestFilterRegistration(JwtRequestFilter filter) {
+        FilterRegistrationBean<JwtRequestFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
         return authenticationConfiguration.getAuthenticationManager();
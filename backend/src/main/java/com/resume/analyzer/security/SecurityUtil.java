@@ -3,14 +3,20 @@ package com.resume.analyzer.security;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public class SecurityUtil {
     public static UUID getCurrentUserId() {
+        return findCurrentUserId()
+                .orElseThrow(() -> new IllegalStateException("User ID not found in Security Context"));
+    }
+
+    public static Optional<UUID> findCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.getPrincipal() instanceof CustomUserPrincipal principal) {
-            return principal.getUserId();
+            return Optional.of(principal.getUserId());
         }
-        throw new IllegalStateException("User ID not found in Security Context");
+        return Optional.empty();
     }
 }
@@ -0,0 +1,228 @@
+package com.resume.analyzer.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.resume.analyzer.dto.ResumeAnalysisResponse;
+import com.resume.analyzer.exception.ResumeAnalyzeException;
+import com.resume.analyzer.exception.TruncatedAnalysisException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads model answers into {@link ResumeAnalysisResponse} with a streaming parser instead of data binding.
+ * Text before the first {@code '{'} (code fences, "Here is the analysis:") and anything after the closing
+ * brace is ignored. A truncated answer with a match score and an overall assessment is reported as a
+ * {@link TruncatedAnalysisException} holding the fields that were complete, anything less is a plain failure.
+ * Neither is cached. Values are coerced, so {@code "78/100"} and {@code 78.4} both become a match score of 78.
+ */
+@Component
+public class AiResponseParser {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+            .enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
+            .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
+            .enable(JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES)
+            .enable(JsonReadFeature.ALLOW_JAVA_COMMENTS)
+            .build();
+
+    private enum Field {
+        MATCH_SCORE, KEY_STRENGTHS, SKILLS_GAP, SUGGESTIONS, OVERALL_ASSESSMENT, EXTRA, UNKNOWN
+    }
+
+    /**
+     * The lenient factory answers are read with, for parsers that read model output as it streams in.
+     */
+    public JsonFactory jsonFactory() {
+        return JSON_FACTORY;
+    }
+
+    public ResumeAnalysisResponse parse(String response) {
+        int start = response == null ? -1 : response.indexOf('{');
+        if (start < 0) {
+            throw new ResumeAnalyzeException("Failed to parse AI response");
+        }
+        try {
+            StringReader reader = new StringReader(response);
+            reader.skip(start);
+            try (JsonParser parser = JSON_FACTORY.createParser(reader)) {
+                return read(parser);
+            }
+        } catch (IOException e) {
+            throw new ResumeAnalyzeException("Failed to parse AI response", e);
+        }
+    }
+
+    /**
+     * Same as {@link #parse(String)} for an answer that has already been read into a tree.
+     */
+    public ResumeAnalysisResponse parse(TreeNode tree) {
+        try (JsonParser parser = tree.traverse()) {
+            return read(parser);
+        } catch (IOException e) {
+            throw new ResumeAnalyzeException("Failed to parse AI response", e);
+        }
+    }
+
+    private ResumeAnalysisResponse read(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new ResumeAnalyzeException("Failed to parse AI response");
+        }
+
+        ResumeAnalysisResponse response = new ResumeAnalysisResponse();
+        int fieldsRead = 0;
+        boolean scored = false;
+        boolean truncated = false;
+        try {
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                Field field = field(parser.currentName());
+                parser.nextToken();
+                switch (field) {
+                    case MATCH_SCORE -> {
+                        Integer score = readScore(parser);
+                        if (score != null) {
+                            response.setMatchScore(score);
+                            scored = true;
+                        }
+                    }
+                    case KEY_STRENGTHS -> response.setKeyStrengths(readStrings(parser));
+                    case SKILLS_GAP -> response.setSkillsGap(readStrings(parser));
+                    case SUGGESTIONS -> response.setSuggestionsForImprovement(readStrings(parser));
+                    case OVERALL_ASSESSMENT -> response.setOverallAssessment(String.join(" ", readStrings(parser)));
+                    case EXTRA -> response.setExtraThingsToConsider(readStringMap(parser));
+                    case UNKNOWN -> parser.skipChildren();
+                }
+                if (field != Field.UNKNOWN) {
+                    fieldsRead++;
+                }
+            }
+            truncated = token != JsonToken.END_OBJECT;
+        } catch (JsonProcessingException e) {
+            // Truncated or garbled tail, keep what was complete unless nothing was
+            if (fieldsRead == 0) {
+                throw e;
+            }
+            truncated = true;
+        }
+        if (!scored || response.getOverallAssessment() == null || response.getOverallAssessment().isBlank()) {
+            throw new ResumeAnalyzeException("Failed to parse AI response");
+        }
+        if (truncated) {
+            throw new TruncatedAnalysisException(response);
+        }
+        return response;
+    }
+
+    private static Field field(String name) {
+        String key = name.replace("_", "").replace(" ", "").toLowerCase(Locale.ROOT);
+        return switch (key) {
+            case "matchscore", "score" -> Field.MATCH_SCORE;
+            case "keystrengths", "strengths" -> Field.KEY_STRENGTHS;
+            case "skillsgap", "skillgaps", "skillsgaps", "gaps" -> Field.SKILLS_GAP;
+            case "suggestionsforimprovement", "suggestions", "improvements" -> Field.SUGGESTIONS;
+            case "overallassessment", "assessment", "summary" -> Field.OVERALL_ASSESSMENT;
+            case "extrathingstoconsider" -> Field.EXTRA;
+            default -> Field.UNKNOWN;
+        };
+    }
+
+    /**
+     * The score, or null when the value holds no number at all.
+     */
+    private static Integer readScore(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            // A NaN or infinite score from a parsed tree holds no number either
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> Double.isFinite(parser.getDoubleValue())
+                    ? clampScore(Math.round(parser.getDoubleValue()))
+                    : null;
+            case VALUE_STRING -> parser.getText().chars().anyMatch(Character::isDigit)
+                    ? clampScore(leadingNumber(parser.getText()))
+                    : null;
+            default -> {
+                parser.skipChildren();
+                yield null;
+            }
+        };
+    }
+
+    /**
+     * First number in a string such as "78", "78%", "[78]" or "78/100".
+     */
+    private static long leadingNumber(String text) {
+        int i = 0;
+        while (i < text.length() && !Character.isDigit(text.charAt(i))) {
+            i++;
+        }
+        long value = 0;
+        int digits = 0;
+        while (i < text.length() && Character.isDigit(text.charAt(i)) && digits < 6) {
+            value = value * 10 + (text.charAt(i) - '0');
+            digits++;
+            i++;
+        }
+        if (i + 1 < text.length() && text.charAt(i) == '.' && Character.isDigit(text.charAt(i + 1)) && text.charAt(i + 1) >= '5') {
+            value++;
+        }
+        return value;
+    }
+
+    private static int clampScore(long score) {
+        return (int) Math.max(0, Math.min(100, score));
+    }
+
+    private static List<String> readStrings(JsonParser parser) throws IOException {
+        List<String> values = new ArrayList<>();
+        if (parser.currentToken() == JsonToken.START_ARRAY) {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                addScalar(parser, values);
+            }
+        } else {
+            addScalar(parser, values);
+        }
+        return values;
+    }
+
+    private static void addScalar(JsonParser parser, List<String> values) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            return;
+        }
+        if (token.isScalarValue() && token != JsonToken.VALUE_NULL) {
+            String text = parser.getText().trim();
+            if (!text.isEmpty()) {
+                values.add(text);
+            }
+        } else {
+            parser.skipChildren();
+        }
+    }
+
+    private static Map<String, String> readStringMap(JsonParser parser) throws IOException {
+        Map<String, String> values = new LinkedHashMap<>();
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return values;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            List<String> value = readStrings(parser);
+            if (!value.isEmpty()) {
+                values.put(name, String.join(" ", value));
+            }
+        }
+        return values;
+    }
+}
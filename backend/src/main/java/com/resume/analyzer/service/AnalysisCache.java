@@ -0,0 +1,92 @@
+package com.resume.analyzer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resume.analyzer.config.AnalysisCacheProperties;
+import com.resume.analyzer.dto.ResumeAnalysisResponse;
+import com.resume.analyzer.model.Analysis;
+import com.resume.analyzer.repository.AnalysisRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Two-tier cache of AI analysis results keyed by a hash of the analysis inputs.
+ * The in-memory tier is bounded by size and TTL; misses fall through to saved {@link Analysis} rows.
+ */
+@Component
+public class AnalysisCache {
+
+    /**
+     * Bump whenever the analysis prompt or the text it is built from changes, so results produced by an older
+     * prompt are no longer served.
+     */
+    public static final String PROMPT_VERSION = "v5";
+
+    private final AnalysisRepository analysisRepository;
+    private final String modelName;
+    private final Cache<String, ResumeAnalysisResponse> cache;
+    private final Counter databaseHits;
+    private final Counter databaseMisses;
+
+    public AnalysisCache(AnalysisRepository analysisRepository,
+                         AnalysisCacheProperties properties,
+                         MeterRegistry meterRegistry,
+                         @Value("${spring.ai.mistralai.chat.options.model:mistral-small-latest}") String modelName) {
+        this.analysisRepository = analysisRepository;
+        this.modelName = modelName;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "analysis");
+        this.databaseHits = Counter.builder("analysis.cache.database")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.databaseMisses = Counter.builder("analysis.cache.database")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public String keyFor(String parsedText, String jobDescription) {
+        return ContentHasher.sha256(
+                ContentHasher.normalize(parsedText),
+                ContentHasher.normalize(jobDescription),
+                PROMPT_VERSION,
+                modelName
+        );
+    }
+
+    public Optional<ResumeAnalysisResponse> get(String key) {
+        ResumeAnalysisResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<ResumeAnalysisResponse> stored = analysisRepository.findFirstByCacheKeyOrderByAnalyzedAtDesc(key)
+                .map(Analysis::getAiSummary);
+        if (stored.isPresent()) {
+            databaseHits.increment();
+            cache.put(key, stored.get());
+        } else {
+            databaseMisses.increment();
+        }
+        return stored;
+    }
+
+    /**
+     * Only the in-memory tier, for callers that already missed the saved analyses.
+     */
+    public Optional<ResumeAnalysisResponse> peek(String key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    public void put(String key, ResumeAnalysisResponse response) {
+        cache.put(key, response);
+    }
+}
@@ -0,0 +1,185 @@
+package com.resume.analyzer.service;
+
+import com.resume.analyzer.config.AnalysisCoalescingProperties;
+import com.resume.analyzer.dto.ResumeAnalysisResponse;
+import com.resume.analyzer.exception.ResumeAnalyzeException;
+import com.resume.analyzer.model.AnalysisFlight;
+import com.resume.analyzer.repository.AnalysisFlightRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for analyses: while one request is running the model for a cache key, identical requests
+ * wait for its result instead of paying for the same call again. Within a node the waiters share the
+ * leader's future. With {@code analysis.coalescing.distributed} the leader also claims an
+ * {@link AnalysisFlight} row, so other nodes poll for the stored result rather than starting their own run. The
+ * leader renews the claim every third of the lease, so a run queued behind other model calls isn't taken over.
+ * Only results are shared: a leader's failure may be specific to its own request, so waiters then run the
+ * analysis themselves.
+ */
+@Component
+public class AnalysisCoalescer {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalysisCoalescer.class);
+
+    private final AnalysisCoalescingProperties properties;
+    private final AnalysisFlightRepository flightRepository;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, CompletableFuture<ResumeAnalysisResponse>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong lastCleanup = new AtomicLong(System.nanoTime());
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("analysis-flight-heartbeat-"));
+
+    public AnalysisCoalescer(AnalysisCoalescingProperties properties, AnalysisFlightRepository flightRepository,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.flightRepository = flightRepository;
+        this.meterRegistry = meterRegistry;
+
+        meterRegistry.gaugeMapSize("analysis.coalescing.in.flight", Tags.empty(), inFlight);
+    }
+
+    public ResumeAnalysisResponse coalesce(String key, Supplier<ResumeAnalysisResponse> analysis) {
+        if (!properties.isEnabled()) {
+            return analysis.get();
+        }
+
+        while (true) {
+            CompletableFuture<ResumeAnalysisResponse> flight = new CompletableFuture<>();
+            CompletableFuture<ResumeAnalysisResponse> leader = inFlight.putIfAbsent(key, flight);
+            if (leader != null) {
+                record("joined");
+                ResumeAnalysisResponse shared = await(leader);
+                if (shared != null) {
+                    return shared;
+                }
+                record("retried");
+                continue;
+            }
+
+            ResumeAnalysisResponse response = null;
+            try {
+                response = properties.isDistributed() ? runClaimed(key, analysis) : lead(analysis);
+                return response;
+            } finally {
+                // Removed before waking the waiters, so a retrying waiter can't join this finished flight again.
+                // A failed leader completes with null and keeps its exception to itself.
+                inFlight.remove(key, flight);
+                flight.complete(response);
+            }
+        }
+    }
+
+    private ResumeAnalysisResponse lead(Supplier<ResumeAnalysisResponse> analysis) {
+        record("leader");
+        return analysis.get();
+    }
+
+    private ResumeAnalysisResponse runClaimed(String key, Supplier<ResumeAnalysisResponse> analysis) {
+        long leaseSeconds = properties.getLease().toSeconds();
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+        while (true) {
+            if (flightRepository.claim(key, leaseSeconds) == 1) {
+                ResumeAnalysisResponse response;
+                ScheduledFuture<?> heartbeat = startHeartbeat(key);
+                try {
+                    response = lead(analysis);
+                } catch (RuntimeException e) {
+                    flightRepository.finish(key, AnalysisFlight.Status.FAILED, null);
+                    throw e;
+                } finally {
+                    heartbeat.cancel(false);
+                }
+                flightRepository.finish(key, AnalysisFlight.Status.COMPLETED, response);
+                cleanUpExpired(leaseSeconds);
+                return response;
+            }
+
+            Optional<AnalysisFlight> claimed = flightRepository.findById(key);
+            if (claimed.isPresent() && claimed.get().getStatus() == AnalysisFlight.Status.COMPLETED
+                    && claimed.get().getResult() != null) {
+                record("joined-remote");
+                return claimed.get().getResult();
+            }
+            // Still running elsewhere, or failed and free to be claimed on the next round
+            if (System.nanoTime() - deadline >= 0) {
+                throw new ResumeAnalyzeException("The AI service did not respond in time.");
+            }
+            sleep();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+    }
+
+    private ScheduledFuture<?> startHeartbeat(String key) {
+        long period = Math.max(1, properties.getLease().toMillis() / 3);
+        return heartbeats.scheduleAtFixedRate(() -> {
+            try {
+                flightRepository.heartbeat(key);
+            } catch (RuntimeException e) {
+                // A later beat may still get through before the lease runs out
+                log.warn("Could not renew the analysis claim {}", key, e);
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    private ResumeAnalysisResponse await(CompletableFuture<ResumeAnalysisResponse> leader) {
+        try {
+            return leader.get(properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ResumeAnalyzeException("The AI service did not respond in time.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResumeAnalyzeException("Resume analysis was interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ResumeAnalyzeException("Resume analysis failed.", e.getCause());
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(properties.getPollInterval().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResumeAnalyzeException("Resume analysis was interrupted.", e);
+        }
+    }
+
+    /**
+     * There is no scheduler in this service, so leaders drop expired rows at most once per lease.
+     */
+    private void cleanUpExpired(long leaseSeconds) {
+        long last = lastCleanup.get();
+        long now = System.nanoTime();
+        if (now - last >= properties.getLease().toNanos() && lastCleanup.compareAndSet(last, now)) {
+            flightRepository.deleteExpired(leaseSeconds);
+        }
+    }
+
+    private void record(String role) {
+        meterRegistry.counter("analysis.coalescing", "role", role).increment();
+    }
+}
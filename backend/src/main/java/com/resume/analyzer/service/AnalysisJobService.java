@@ -0,0 +1,12 @@
+package com.resume.analyzer.service;
+
+import com.resume.analyzer.dto.AnalysisJobResponse;
+import com.resume.analyzer.dto.JobDescriptionRequest;
+
+import java.util.UUID;
+
+public interface AnalysisJobService {
+    AnalysisJobResponse submitAnalysis(UUID resumeId, JobDescriptionRequest jobDescriptionRequest);
+
+    AnalysisJobResponse getJob(UUID jobId);
+}
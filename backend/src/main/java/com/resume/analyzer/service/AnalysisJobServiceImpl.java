@@ -0,0 +1,154 @@
+package com.resume.analyzer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resume.analyzer.config.AnalysisJobProperties;
+import com.resume.analyzer.dto.AnalysisJobResponse;
+import com.resume.analyzer.dto.AnalysisJobStatus;
+import com.resume.analyzer.dto.AnalysisResponse;
+import com.resume.analyzer.dto.CreateAnalysisRequest;
+import com.resume.analyzer.dto.JobDescriptionRequest;
+import com.resume.analyzer.dto.ResumeAnalysisResponse;
+import com.resume.analyzer.exception.AnalysisJobNotFoundException;
+import com.resume.analyzer.exception.AnalysisQueueFullException;
+import com.resume.analyzer.exception.GlobalExceptionHandler;
+import com.resume.analyzer.exception.TruncatedAnalysisException;
+import com.resume.analyzer.security.SecurityUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class AnalysisJobServiceImpl implements AnalysisJobService {
+
+    private final ResumeService resumeService;
+    private final AnalysisService analysisService;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final Cache<UUID, AnalysisJob> jobs;
+
+    public AnalysisJobServiceImpl(ResumeService resumeService,
+                                  AnalysisService analysisService,
+                                  AnalysisJobProperties properties,
+                                  MeterRegistry meterRegistry,
+                                  Environment environment) {
+        this.resumeService = resumeService;
+        this.analysisService = analysisService;
+        this.meterRegistry = meterRegistry;
+        this.executor = new ThreadPoolExecutor(
+                properties.getConcurrency(),
+                properties.getConcurrency(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                Threading.VIRTUAL.isActive(environment)
+                        ? Thread.ofVirtual().name("analysis-job-", 0).factory()
+                        : new CustomizableThreadFactory("analysis-job-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getRetention())
+                .build();
+
+        meterRegistry.gauge("analysis.jobs.queue.depth", executor, e -> e.getQueue().size());
+        meterRegistry.gauge("analysis.jobs.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    @Override
+    public AnalysisJobResponse submitAnalysis(UUID resumeId, JobDescriptionRequest jobDescriptionRequest) {
+        AnalysisJob job = new AnalysisJob(UUID.randomUUID(), resumeId, SecurityUtil.getCurrentUserId());
+        jobs.put(job.jobId, job);
+
+        try {
+            executor.execute(new DelegatingSecurityContextRunnable(() -> run(job, jobDescriptionRequest)));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.jobId);
+            meterRegistry.counter("analysis.jobs.rejected").increment();
+            throw new AnalysisQueueFullException("Too many analyses in progress, please retry shortly.");
+        }
+        return job.toResponse();
+    }
+
+    @Override
+    public AnalysisJobResponse getJob(UUID jobId) {
+        AnalysisJob job = jobs.getIfPresent(jobId);
+        if (job == null || !job.userId.equals(SecurityUtil.getCurrentUserId())) {
+            throw new AnalysisJobNotFoundException("Analysis job not found");
+        }
+        return job.toResponse();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void run(AnalysisJob job, JobDescriptionRequest jobDescriptionRequest) {
+        long startedAt = System.nanoTime();
+        meterRegistry.timer("analysis.jobs.wait").record(startedAt - job.submittedNanos, TimeUnit.NANOSECONDS);
+        job.status = AnalysisJobStatus.RUNNING;
+
+        String outcome = "completed";
+        try {
+            ResumeAnalysisResponse result = resumeService.analyzeResumeWithAI(job.resumeId, jobDescriptionRequest);
+            AnalysisResponse saved = analysisService.saveModelAnalysis(
+                    new CreateAnalysisRequest(job.resumeId, jobDescriptionRequest.getJobDescription(),
+                            jobDescriptionRequest.getJobDescriptionId(), result));
+            job.analysisId = saved.getId();
+            job.result = result;
+            // Pollers read the status last, so everything else has to be in place before it changes
+            job.completedAt = LocalDateTime.now();
+            job.status = AnalysisJobStatus.COMPLETED;
+        } catch (TruncatedAnalysisException e) {
+            // Completed with the fields that were complete, without saving them as the analysis of these inputs
+            outcome = "truncated";
+            job.result = e.getPartial();
+            job.completedAt = LocalDateTime.now();
+            job.status = AnalysisJobStatus.COMPLETED;
+        } catch (RuntimeException e) {
+            outcome = "failed";
+            job.error = GlobalExceptionHandler.clientMessage(e);
+            job.completedAt = LocalDateTime.now();
+            job.status = AnalysisJobStatus.FAILED;
+        } finally {
+            Timer.builder("analysis.jobs.duration")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static final class AnalysisJob {
+        private final UUID jobId;
+        private final UUID resumeId;
+        private final UUID userId;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final long submittedNanos = System.nanoTime();
+        private volatile AnalysisJobStatus status = AnalysisJobStatus.QUEUED;
+        private volatile UUID analysisId;
+        private volatile ResumeAnalysisResponse result;
+        private volatile String error;
+        private volatile LocalDateTime completedAt;
+
+        private AnalysisJob(UUID jobId, UUID resumeId, UUID userId) {
+            this.jobId = jobId;
+            this.resumeId = resumeId;
+            this.userId = userId;
+        }
+
+        private AnalysisJobResponse toResponse() {
+            return new AnalysisJobResponse(jobId, resumeId, status, analysisId, result, error, submittedAt, completedAt);
+        }
+    }
+}
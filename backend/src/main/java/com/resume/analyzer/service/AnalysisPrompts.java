@@ -0,0 +1,151 @@
+package com.resume.analyzer.service;
+
+public final class AnalysisPrompts {
+
+    static final String ANALYSIS_TEMPLATE = """
+{
+   "request": "Analyze the resume against the provided job description and generate the following information. Avoid using personal names or identifiers in the output. Provide the response in a structured JSON format as outlined below.",
+   "input_data": {
+     "job_description": "%s",
+     "resume": "%s"
+   },
+   "output_format": {
+     "MatchScore": "Provide a score indicating how well the resume aligns with the job description (out of 100).",
+     "KeyStrengths": [
+       "List the candidate's key strengths that match the job description, focusing on technical skills, relevant experience, and accomplishments."
+     ],
+     "SkillsGap": [
+       "Identify any significant skills or qualifications mentioned in the job description that are missing or underrepresented in the resume."
+     ],
+     "SuggestionsForImprovement": [
+       "Offer actionable suggestions for improving the resume, such as adding missing skills, highlighting specific achievements, or clarifying technical expertise."
+     ],
+     "OverallAssessment": "Provide a brief summary of how the resume matches the job description, focusing on the candidate's strengths, areas for improvement, and potential adjustments to increase alignment with the job requirements."
+   },
+   "response_format": {
+     "MatchScore": "[score]",
+     "KeyStrengths": [
+       "Strength 1",
+       "Strength 2",
+       "Strength 3"
+     ],
+     "SkillsGap": [
+       "Gap 1",
+       "Gap 2",
+       "Gap 3"
+     ],
+     "SuggestionsForImprovement": [
+       "Improvement suggestion 1",
+       "Improvement suggestion 2",
+       "Improvement suggestion 3"
+     ],
+     "OverallAssessment": "Summary of alignment with the job description, strengths, and areas for improvement."
+   }
+ }
+    """;
+
+    static final String STRUCTURED_ANALYSIS_TEMPLATE = """
+Check the two texts below and analyze the resume against the job description in a single answer. Avoid using personal names or identifiers in the output.
+
+Always answer ResumeValid and JobDescriptionValid with true or false. Set ResumeValid to false if the resume text is not a resume or CV, and JobDescriptionValid to false if the job description text is not a valid job description. When either is false, leave the other fields empty.
+
+Otherwise fill in:
+- MatchScore: how well the resume aligns with the job description, out of 100.
+- KeyStrengths: the candidate's key strengths that match the job description, focusing on technical skills, relevant experience, and accomplishments.
+- SkillsGap: significant skills or qualifications from the job description that are missing or underrepresented in the resume.
+- SuggestionsForImprovement: actionable suggestions for improving the resume, such as adding missing skills, highlighting specific achievements, or clarifying technical expertise.
+- OverallAssessment: a brief summary of how the resume matches the job description, the candidate's strengths, areas for improvement, and adjustments to increase alignment.
+
+Job description: "%s"
+
+Resume: "%s"
+
+%s
+    """;
+
+    static final String DELTA_ANALYSIS_TEMPLATE = """
+{
+   "request": "The resume was analyzed against the job description before and has since been edited. Update the previous analysis to reflect the changed and removed sections only; everything else in the resume is unchanged. Keep points that still hold, drop points that depended on removed content and add points the changes support. Avoid using personal names or identifiers in the output. Respond with the complete updated analysis in the response format below.",
+   "input_data": {
+     "job_description": "%s",
+     "previous_analysis": %s,
+     "changed_sections": "%s",
+     "removed_sections": "%s"
+   },
+   "output_format": {
+     "MatchScore": "Updated score indicating how well the edited resume aligns with the job description (out of 100).",
+     "KeyStrengths": ["Updated key strengths that match the job description."],
+     "SkillsGap": ["Updated skills or qualifications from the job description that are missing or underrepresented."],
+     "SuggestionsForImprovement": ["Updated actionable suggestions for improving the resume."],
+     "OverallAssessment": "Updated summary of how the edited resume matches the job description."
+   }
+ }
+    """;
+
+    // Template text around the placeholders, split once
+    private static final String[] ANALYSIS_PARTS = ANALYSIS_TEMPLATE.split("%s", -1);
+    private static final String[] STRUCTURED_ANALYSIS_PARTS = STRUCTURED_ANALYSIS_TEMPLATE.split("%s", -1);
+    private static final String[] DELTA_ANALYSIS_PARTS = DELTA_ANALYSIS_TEMPLATE.split("%s", -1);
+
+    private static final int ANALYSIS_FIXED_LENGTH = ANALYSIS_TEMPLATE.length() - 4;
+    private static final int STRUCTURED_ANALYSIS_FIXED_LENGTH = STRUCTURED_ANALYSIS_TEMPLATE.length() - 6;
+
+    private AnalysisPrompts() {
+    }
+
+    public static String analysisPrompt(String jobDescription, String resumeText) {
+        int inputLength = length(jobDescription) + length(resumeText);
+        // Inputs are escaped while appending, leave a little room so the builder doesn't have to grow
+        StringBuilder prompt = new StringBuilder(ANALYSIS_FIXED_LENGTH + inputLength + (inputLength >> 6) + 16);
+        prompt.append(ANALYSIS_PARTS[0]);
+        TextNormalizer.appendJsonEscaped(prompt, jobDescription);
+        prompt.append(ANALYSIS_PARTS[1]);
+        TextNormalizer.appendJsonEscaped(prompt, resumeText);
+        prompt.append(ANALYSIS_PARTS[2]);
+        return prompt.toString();
+    }
+
+    /**
+     * Prompt for the single structured call, {@code format} holds the output converter's schema instructions.
+     */
+    public static String structuredAnalysisPrompt(String jobDescription, String resumeText, String format) {
+        int inputLength = length(jobDescription) + length(resumeText);
+        StringBuilder prompt = new StringBuilder(STRUCTURED_ANALYSIS_FIXED_LENGTH + inputLength + (inputLength >> 6)
+                + length(format) + 16);
+        prompt.append(STRUCTURED_ANALYSIS_PARTS[0]);
+        TextNormalizer.appendJsonEscaped(prompt, jobDescription);
+        prompt.append(STRUCTURED_ANALYSIS_PARTS[1]);
+        TextNormalizer.appendJsonEscaped(prompt, resumeText);
+        prompt.append(STRUCTURED_ANALYSIS_PARTS[2]);
+        if (format != null) {
+            prompt.append(format);
+        }
+        prompt.append(STRUCTURED_ANALYSIS_PARTS[3]);
+        return prompt.toString();
+    }
+
+    /**
+     * Prompt for re-analyzing an edited resume, {@code previousAnalysis} is the earlier result as JSON and goes in
+     * unescaped.
+     */
+    public static String deltaAnalysisPrompt(String jobDescription, String previousAnalysis, String changedSections,
+                                             String removedSections) {
+        int inputLength = length(jobDescription) + length(changedSections) + length(removedSections);
+        StringBuilder prompt = new StringBuilder(DELTA_ANALYSIS_TEMPLATE.length() + inputLength + (inputLength >> 6)
+                + length(previousAnalysis) + 16);
+        prompt.append(DELTA_ANALYSIS_PARTS[0]);
+        TextNormalizer.appendJsonEscaped(prompt, jobDescription);
+        prompt.append(DELTA_ANALYSIS_PARTS[1]);
+        prompt.append(previousAnalysis);
+        prompt.append(DELTA_ANALYSIS_PARTS[2]);
+        TextNormalizer.appendJsonEscaped(prompt, changedSections);
+        prompt.append(DELTA_ANALYSIS_PARTS[3]);
+        TextNormalizer.appendJsonEscaped(prompt, removedSections);
+        prompt.append(DELTA_ANALYSIS_PARTS[4]);
+        return prompt.toString();
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
@@ -1,11 +1,14 @@
 package com.resume.analyzer.service;
 
+import com.resume.analyzer.dto.AnalysisPageResponse;
 import com.resume.analyzer.dto.AnalysisResponse;
 import com.resume.analyzer.dto.AnalysisUpdateRequest;
 import com.resume.analyzer.dto.CreateAnalysisRequest;
 import com.resume.analyzer.dto.ResumeAnalysisResponse;
+import com.resume.analyzer.repository.AnalysisHistoryFilter;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface AnalysisService {
@@ -13,9 +16,28 @@ public interface AnalysisService {
 
     List<AnalysisResponse> getAnalysisByResumeId(UUID resumeId);
 
+    AnalysisPageResponse getAnalysisHistory(AnalysisHistoryFilter filter, String cursor, int limit);
+
     AnalysisResponse updateAnalysis(UUID id, AnalysisUpdateRequest request);
 
     void deleteAnalysis(UUID id);
 
     AnalysisResponse createAnalysis(CreateAnalysisRequest createAnalysisRequest);
+
+    /**
+     * Saves an analysis the model produced and makes it the cached result for its inputs. Returns the saved row
+     * instead when the resume already has this result.
+     */
+    AnalysisResponse saveModelAnalysis(CreateAnalysisRequest createAnalysisRequest);
+
+    /**
+     * Same as {@link #saveModelAnalysis(CreateAnalysisRequest)} for an analysis updated from the full analysis of an
+     * earlier resume version.
+     */
+    AnalysisResponse saveDeltaAnalysis(CreateAnalysisRequest createAnalysisRequest, UUID baseVersionId);
+
+    /**
+     * The latest saved model analysis of a resume for the given cache key.
+     */
+    Optional<AnalysisResponse> findModelAnalysis(UUID resumeId, String cacheKey);
 }
@@ -1,57 +1,92 @@
 package com.resume.analyzer.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.analyzer.dto.AnalysisPageResponse;
 import com.resume.analyzer.dto.AnalysisResponse;
+import com.resume.analyzer.dto.AnalysisSummaryResponse;
 import com.resume.analyzer.dto.AnalysisUpdateRequest;
 import com.resume.analyzer.dto.CreateAnalysisRequest;
-import com.resume.analyzer.dto.ResumeAnalysisResponse;
+import com.resume.analyzer.dto.JobDescriptionRequest;
 import com.resume.analyzer.exception.AnalysisNotFoundException;
-import com.resume.analyzer.exception.ResumeAnalyzeException;
 import com.resume.analyzer.exception.ResumeNotFoundException;
 import com.resume.analyzer.model.Analysis;
+import com.resume.analyzer.model.JobDescription;
 import com.resume.analyzer.model.Resume;
+import com.resume.analyzer.repository.AnalysisHistoryFilter;
 import com.resume.analyzer.repository.AnalysisRepository;
 import com.resume.analyzer.repository.ResumeRepository;
+import com.resume.analyzer.security.SecurityUtil;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
 public class AnalysisServiceImpl implements AnalysisService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final AnalysisRepository analysisRepository;
     private final ResumeRepository resumeRepository;
+    private final AnalysisCache analysisCache;
+    private final JobDescriptionService jobDescriptionService;
 
-    public AnalysisServiceImpl(AnalysisRepository analysisRepository, ResumeRepository resumeRepository) {
+    public AnalysisServiceImpl(AnalysisRepository analysisRepository, ResumeRepository resumeRepository, AnalysisCache analysisCache,
+                               JobDescriptionService jobDescriptionService) {
         this.analysisRepository = analysisRepository;
         this.resumeRepository = resumeRepository;
+        this.analysisCache = analysisCache;
+        this.jobDescriptionService = jobDescriptionService;
     }
 
     @Override
     public AnalysisResponse getAnalysis(UUID id) {
         Analysis analysis = analysisRepository.findById(id)
                 .orElseThrow(() -> new AnalysisNotFoundException("Analysis not found"));
-        return new AnalysisResponse(analysis.getId(), analysis.getAiSummary(), analysis.getJobDescription(), analysis.getResume().getId());
+        return toResponse(analysis);
     }
 
     @Override
-    @Transactional
     public List<AnalysisResponse> getAnalysisByResumeId(UUID resumeId) {
-        List<Analysis> analyses = analysisRepository.findByResumeId(resumeId);
-        return analyses.stream()
-                .map(a -> new AnalysisResponse(a.getId(), a.getAiSummary(), a.getJobDescription(), a.getResume().getId())).toList();
+        return analysisRepository.findResponsesByResumeId(resumeId);
     }
 
     @Override
+    public AnalysisPageResponse getAnalysisHistory(AnalysisHistoryFilter filter, String cursor, int limit) {
+        UUID userId = SecurityUtil.getCurrentUserId();
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        List<AnalysisSummaryResponse> analyses;
+        if (cursor == null || cursor.isBlank()) {
+            analyses = analysisRepository.findHistory(userId, filter, null, null, pageSize);
+        } else {
+            AnalysisCursor after = AnalysisCursor.decode(cursor);
+            analyses = analysisRepository.findHistory(userId, filter, after.analyzedAt(), after.id(), pageSize);
+        }
+
+        String nextCursor = null;
+        if (analyses.size() == pageSize) {
+            AnalysisSummaryResponse last = analyses.get(analyses.size() - 1);
+            nextCursor = new AnalysisCursor(last.getAnalyzedAt(), last.getId()).encode();
+        }
+        return new AnalysisPageResponse(analyses, nextCursor);
+    }
+
+    @Override
+    @Transactional
     public AnalysisResponse updateAnalysis(UUID id, AnalysisUpdateRequest request) {
         Analysis analysis = analysisRepository.findById(id)
                 .orElseThrow(() -> new AnalysisNotFoundException("Analysis not found"));
+        JobDescription jobDescription = jobDescriptionService.resolve(
+                new JobDescriptionRequest(request.getJobDescription(), request.getJobDescriptionId()));
         analysis.setAiSummary(request.getAiSummary());
-        analysis.setJobDescription(request.getJobDescription());
+        analysis.setJobDescription(jobDescription);
+        analysis.setJobDescriptionText(null);
+        // An edited summary is no longer what the model produced, so it must not be served from the cache
+        analysis.setCacheKey(null);
         analysisRepository.save(analysis);
-        return new AnalysisResponse(analysis.getId(), analysis.getAiSummary(), analysis.getJobDescription(), analysis.getResume().getId());
+        return toResponse(analysis);
     }
 
     @Override
@@ -61,30 +96,70 @@ public class AnalysisServiceImpl implements AnalysisService {
 
     @Override
     public AnalysisResponse createAnalysis(CreateAnalysisRequest createAnalysisRequest) {
-        Analysis analysis = new Analysis();
-        analysis.setAiSummary(createAnalysisRequest.getAiSummary());
-        analysis.setJobDescription(createAnalysisRequest.getJobDescription());
+        return save(createAnalysisRequest, false, null);
+    }
+
+    @Override
+    public AnalysisResponse saveModelAnalysis(CreateAnalysisRequest createAnalysisRequest) {
+        return save(createAnalysisRequest, true, null);
+    }
+
+    @Override
+    public AnalysisResponse saveDeltaAnalysis(CreateAnalysisRequest createAnalysisRequest, UUID baseVersionId) {
+        return save(createAnalysisRequest, true, baseVersionId);
+    }
 
+    @Override
+    public Optional<AnalysisResponse> findModelAnalysis(UUID resumeId, String cacheKey) {
+        return analysisRepository.findFirstByResumeIdAndCacheKeyOrderByAnalyzedAtDesc(resumeId, cacheKey)
+                .map(this::toResponse);
+    }
+
+    /**
+     * Only results the model produced get a cache key, client-supplied summaries are stored without one so they
+     * are never served to other users as the analysis of the same inputs. A result that is already saved for the
+     * resume, for example a cache hit or the model result the dashboard saves again, returns that row.
+     */
+    private AnalysisResponse save(CreateAnalysisRequest createAnalysisRequest, boolean modelResult, UUID deltaBaseId) {
+        JobDescription jobDescription = jobDescriptionService.resolve(
+                new JobDescriptionRequest(createAnalysisRequest.getJobDescription(), createAnalysisRequest.getJobDescriptionId()));
         Resume resume = resumeRepository.findById(createAnalysisRequest.getResumeId()).orElseThrow(
                 () -> new ResumeNotFoundException("Resume not found"));
+        // Job descriptions are keyed without quotes, as they are analyzed
+        String cacheKey = analysisCache.keyFor(resume.getParsedText(), jobDescription.getText().replace("\"", ""));
 
+        // Cache hits return the analysis that is already saved, saving it again would only add a copy
+        Optional<Analysis> saved = analysisRepository.findFirstByResumeIdAndCacheKeyOrderByAnalyzedAtDesc(resume.getId(), cacheKey);
+        if (saved.isPresent() && saved.get().getAiSummary().equals(createAnalysisRequest.getAiSummary())) {
+            return toResponse(saved.get());
+        }
+
+        Analysis analysis = new Analysis();
+        analysis.setAiSummary(createAnalysisRequest.getAiSummary());
+        analysis.setJobDescription(jobDescription);
         analysis.setResume(resume);
+        if (modelResult) {
+            analysis.setCacheKey(cacheKey);
+            analysis.setDeltaBaseId(deltaBaseId);
+        }
         analysis = analysisRepository.save(analysis);
-        return new AnalysisResponse(analysis.getId(), analysis.getAiSummary(), analysis.getJobDescription(), analysis.getResume().getId());
+        if (modelResult) {
+            analysisCache.put(analysis.getCacheKey(), analysis.getAiSummary());
+        }
+        return toResponse(analysis);
     }
 
-    private ResumeAnalysisResponse convertToResumeAnalysisResponse(String analysis) {
-        ObjectMapper objectMapper = new ObjectMapper();
-
-        try {
-            if (analysis.startsWith("```")) {
-                analysis = analysis.replaceAll("(?s)^```(?:json)?\\s*", "") // remove starting ```
-                        .replaceAll("\\s*```$", "");             // remove ending ```
-            }
-
-            return objectMapper.readValue(analysis, ResumeAnalysisResponse.class);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to parse AI response", e);
+    /**
+     * Reads the job description through the service cache, only the id of the lazy reference is touched.
+     */
+    private AnalysisResponse toResponse(Analysis analysis) {
+        String jobDescription = analysis.getJobDescriptionText();
+        UUID jobDescriptionId = null;
+        if (analysis.getJobDescription() != null) {
+            jobDescriptionId = analysis.getJobDescription().getId();
+            jobDescription = jobDescriptionService.findById(jobDescriptionId).getText();
         }
+        return new AnalysisResponse(analysis.getId(), analysis.getAiSummary(), jobDescription, jobDescriptionId,
+                analysis.getResume().getId());
     }
 }
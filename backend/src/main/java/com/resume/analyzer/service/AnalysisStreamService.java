@@ -0,0 +1,10 @@
+package com.resume.analyzer.service;
+
+import com.resume.analyzer.dto.JobDescriptionRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+public interface AnalysisStreamService {
+    SseEmitter streamAnalysis(UUID resumeId, JobDescriptionRequest jobDescriptionRequest);
+}
@@ -0,0 +1,172 @@
+package com.resume.analyzer.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.resume.analyzer.dto.AnalysisResponse;
+import com.resume.analyzer.dto.CreateAnalysisRequest;
+import com.resume.analyzer.dto.ErrorResponse;
+import com.resume.analyzer.dto.JobDescriptionRequest;
+import com.resume.analyzer.dto.ResumeAnalysisResponse;
+import com.resume.analyzer.exception.GlobalExceptionHandler;
+import com.resume.analyzer.exception.ResumeAnalyzeException;
+import com.resume.analyzer.exception.ResumeNotFoundException;
+import com.resume.analyzer.exception.TruncatedAnalysisException;
+import com.resume.analyzer.model.Resume;
+import com.resume.analyzer.repository.ResumeRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+
+@Service
+public class AnalysisStreamServiceImpl implements AnalysisStreamService {
+
+    private final ResumeRepository resumeRepository;
+    private final AnalysisService analysisService;
+    private final AnalysisCache analysisCache;
+    private final ContentClassifier contentClassifier;
+    private final JobDescriptionService jobDescriptionService;
+    private final LlmClient llmClient;
+    private final ObjectMapper objectMapper;
+    private final AiResponseParser aiResponseParser;
+    private final PromptCompactor promptCompactor;
+    private final ExecutorService llmExecutor;
+    private final Duration timeout;
+
+    public AnalysisStreamServiceImpl(ResumeRepository resumeRepository,
+                                     AnalysisService analysisService,
+                                     AnalysisCache analysisCache,
+                                     ContentClassifier contentClassifier,
+                                     JobDescriptionService jobDescriptionService,
+                                     LlmClient llmClient,
+                                     ObjectMapper objectMapper,
+                                     AiResponseParser aiResponseParser,
+                                     PromptCompactor promptCompactor,
+                                     @Qualifier("llmExecutor") ExecutorService llmExecutor,
+                                     @Value("${analysis.stream.timeout:3m}") Duration timeout) {
+        this.resumeRepository = resumeRepository;
+        this.analysisService = analysisService;
+        this.analysisCache = analysisCache;
+        this.contentClassifier = contentClassifier;
+        this.jobDescriptionService = jobDescriptionService;
+        this.llmClient = llmClient;
+        this.objectMapper = objectMapper;
+        this.aiResponseParser = aiResponseParser;
+        this.promptCompactor = promptCompactor;
+        this.llmExecutor = llmExecutor;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public SseEmitter streamAnalysis(UUID resumeId, JobDescriptionRequest jobDescriptionRequest) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        llmExecutor.execute(() -> start(emitter, resumeId, jobDescriptionRequest));
+        return emitter;
+    }
+
+    private void start(SseEmitter emitter, UUID resumeId, JobDescriptionRequest jobDescriptionRequest) {
+        try {
+            String jobDescription = jobDescriptionService.textOf(jobDescriptionRequest).replace("\"", "");
+            Resume resume = resumeRepository.findById(resumeId)
+                    .orElseThrow(() -> new ResumeNotFoundException("Resume not found"));
+
+            String cacheKey = analysisCache.keyFor(resume.getParsedText(), jobDescription);
+            Optional<ResumeAnalysisResponse> cached = analysisCache.get(cacheKey);
+            if (cached.isPresent()) {
+                ObjectNode fields = objectMapper.valueToTree(cached.get());
+                fields.fields().forEachRemaining(field -> send(emitter, field.getKey(), field.getValue()));
+                // A replayed result already has a row for this resume unless it was only cached in memory
+                AnalysisResponse saved = analysisService.findModelAnalysis(resumeId, cacheKey)
+                        .orElseGet(() -> save(resumeId, jobDescriptionRequest, cached.get()));
+                send(emitter, "complete", saved);
+                emitter.complete();
+                return;
+            }
+
+            if (!Boolean.TRUE.equals(jobDescriptionService.verify(jobDescriptionRequest).getValid())) {
+                throw new ResumeAnalyzeException("The provided job description is not valid.");
+            }
+            // The streamed prompt doesn't validate its inputs and uploads may only have been screened locally
+            if (!contentClassifier.isResume(resume.getParsedText())) {
+                throw new ResumeAnalyzeException("The uploaded file is not a valid resume or CV.");
+            }
+
+            IncrementalJsonFieldParser parser = new IncrementalJsonFieldParser(objectMapper, aiResponseParser.jsonFactory(),
+                    (name, value) -> send(emitter, name, value));
+            Disposable subscription = llmClient.stream(PromptKind.ANALYSIS, promptCompactor.analysisPrompt(jobDescription, resume.getParsedText()))
+                    .subscribe(
+                            chunk -> feed(parser, chunk),
+                            error -> fail(emitter, error),
+                            () -> finish(emitter, resumeId, jobDescriptionRequest, parser)
+                    );
+            emitter.onTimeout(subscription::dispose);
+            emitter.onError(error -> subscription.dispose());
+        } catch (RuntimeException | IOException e) {
+            fail(emitter, e);
+        }
+    }
+
+    private void finish(SseEmitter emitter, UUID resumeId, JobDescriptionRequest jobDescriptionRequest, IncrementalJsonFieldParser parser) {
+        try {
+            if (parser.result().isEmpty()) {
+                throw new ResumeAnalyzeException("Failed to parse AI response");
+            }
+            ResumeAnalysisResponse response = aiResponseParser.parse(parser.result());
+            // The fields already went out as they completed, a cut-off answer just isn't saved
+            if (!parser.isFinished()) {
+                throw new TruncatedAnalysisException(response);
+            }
+            complete(emitter, resumeId, jobDescriptionRequest, response);
+        } catch (RuntimeException e) {
+            fail(emitter, e);
+        }
+    }
+
+    private void complete(SseEmitter emitter, UUID resumeId, JobDescriptionRequest jobDescriptionRequest, ResumeAnalysisResponse response) {
+        send(emitter, "complete", save(resumeId, jobDescriptionRequest, response));
+        emitter.complete();
+    }
+
+    private AnalysisResponse save(UUID resumeId, JobDescriptionRequest jobDescriptionRequest, ResumeAnalysisResponse response) {
+        return analysisService.saveModelAnalysis(new CreateAnalysisRequest(resumeId, jobDescriptionRequest.getJobDescription(),
+                jobDescriptionRequest.getJobDescriptionId(), response));
+    }
+
+    private void fail(SseEmitter emitter, Throwable error) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("error")
+                    .data(new ErrorResponse(LocalDateTime.now(), GlobalExceptionHandler.clientMessage(error), "Resume analysis failed"), MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(error);
+        }
+    }
+
+    private void feed(IncrementalJsonFieldParser parser, String chunk) {
+        try {
+            parser.feed(chunk);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.resume.analyzer.service;
+
+import com.resume.analyzer.dto.BatchUploadResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+public interface BatchUploadService {
+    BatchUploadResponse uploadResumes(List<MultipartFile> files);
+}
@@ -0,0 +1,392 @@
+package com.resume.analyzer.service;
+
+import com.resume.analyzer.config.ResumeUploadProperties;
+import com.resume.analyzer.dto.BatchUploadItemResponse;
+import com.resume.analyzer.dto.BatchUploadResponse;
+import com.resume.analyzer.dto.BatchUploadStatus;
+import com.resume.analyzer.exception.ResumeUploadException;
+import com.resume.analyzer.model.Resume;
+import com.resume.analyzer.model.User;
+import com.resume.analyzer.repository.ResumeRepository;
+import com.resume.analyzer.repository.UserRepository;
+import com.resume.analyzer.security.SecurityUtil;
+import com.resume.analyzer.storage.ResumeBlobStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Uploads many resumes at once. Each file moves through PDF extraction, which PdfTextExtractor runs on the
+ * CPU-sized {@code pdfExecutor}, then classification and file storage on the virtual-thread {@code llmExecutor},
+ * so a slow model call never holds a parsing thread. Re-uploads are linked to their previous version like single
+ * uploads. The rows are then written in chunks so Hibernate can batch the inserts.
+ */
+@Service
+public class BatchUploadServiceImpl implements BatchUploadService {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchUploadServiceImpl.class);
+
+    private final ResumeRepository resumeRepository;
+    private final UserRepository userRepository;
+    private final ContentClassifier contentClassifier;
+    private final PdfTextExtractor pdfTextExtractor;
+    private final TextVectorizer textVectorizer;
+    private final ResumeIndex resumeIndex;
+    private final ResumeBlobStore resumeBlobStore;
+    private final ResumeUploadProperties properties;
+    private final ExecutorService llmExecutor;
+    private final ResumeVersioning resumeVersioning;
+
+    public BatchUploadServiceImpl(ResumeRepository resumeRepository, UserRepository userRepository,
+                                  ContentClassifier contentClassifier, PdfTextExtractor pdfTextExtractor,
+                                  TextVectorizer textVectorizer, ResumeIndex resumeIndex, ResumeBlobStore resumeBlobStore,
+                                  ResumeUploadProperties properties,
+                                  @Qualifier("llmExecutor") ExecutorService llmExecutor,
+                                  ResumeVersioning resumeVersioning) {
+        this.resumeRepository = resumeRepository;
+        this.userRepository = userRepository;
+        this.contentClassifier = contentClassifier;
+        this.pdfTextExtractor = pdfTextExtractor;
+        this.textVectorizer = textVectorizer;
+        this.resumeIndex = resumeIndex;
+        this.resumeBlobStore = resumeBlobStore;
+        this.properties = properties;
+        this.llmExecutor = llmExecutor;
+        this.resumeVersioning = resumeVersioning;
+    }
+
+    /**
+     * A single PDF of the batch, either a multipart file or an entry extracted from a ZIP archive into a temp file.
+     */
+    private interface UploadSource {
+        String fileName();
+
+        long size();
+
+        InputStream open() throws IOException;
+    }
+
+    private record MultipartSource(MultipartFile file) implements UploadSource {
+        @Override
+        public String fileName() {
+            return file.getOriginalFilename();
+        }
+
+        @Override
+        public long size() {
+            return file.getSize();
+        }
+
+        @Override
+        public InputStream open() throws IOException {
+            return file.getInputStream();
+        }
+    }
+
+    private record TempFileSource(String fileName, long size, Path path) implements UploadSource {
+        @Override
+        public InputStream open() throws IOException {
+            return Files.newInputStream(path);
+        }
+    }
+
+    private static final class BatchItem {
+        private final UploadSource source;
+        private BatchUploadStatus status;
+        private String message;
+        private String parsedText;
+        private String storageKey;
+        private Resume resume;
+
+        private BatchItem(UploadSource source) {
+            this.source = source;
+        }
+
+        private BatchItem(String fileName, BatchUploadStatus status, String message) {
+            this.source = new TempFileSource(fileName, 0, null);
+            this.status = status;
+            this.message = message;
+        }
+
+        private boolean pending() {
+            return status == null;
+        }
+
+        private void finish(BatchUploadStatus status, String message) {
+            this.status = status;
+            this.message = message;
+        }
+    }
+
+    @Override
+    public BatchUploadResponse uploadResumes(List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) {
+            throw new ResumeUploadException("Please upload at least one PDF or ZIP file.");
+        }
+
+        User user = userRepository.findById(SecurityUtil.getCurrentUserId())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        List<Path> tempFiles = new ArrayList<>();
+        try {
+            List<BatchItem> items = new ArrayList<>();
+            List<CompletableFuture<BatchItem>> pipeline = new ArrayList<>();
+            // Feeds the extractor no faster than it can parse, so a large batch doesn't crowd out single uploads
+            Semaphore extractionSlots = new Semaphore(pdfTextExtractor.concurrency());
+            for (BatchItem item : collect(files, tempFiles)) {
+                items.add(item);
+                if (item.pending()) {
+                    pipeline.add(process(item, user.getId(), extractionSlots));
+                }
+            }
+            pipeline.forEach(CompletableFuture::join);
+
+            persist(items, user);
+            return buildResponse(items);
+        } finally {
+            tempFiles.forEach(BatchUploadServiceImpl::deleteQuietly);
+        }
+    }
+
+    private List<BatchItem> collect(List<MultipartFile> files, List<Path> tempFiles) {
+        List<BatchItem> items = new ArrayList<>();
+        for (MultipartFile file : files) {
+            String name = file.getOriginalFilename() == null ? "" : file.getOriginalFilename();
+            if (name.toLowerCase().endsWith(".zip")) {
+                expandArchive(file, items, tempFiles);
+            } else {
+                items.add(checked(new MultipartSource(file)));
+            }
+            if (items.size() > properties.getMaxBatchFiles()) {
+                throw new ResumeUploadException("A batch can contain at most " + properties.getMaxBatchFiles() + " files.");
+            }
+        }
+        return items;
+    }
+
+    private void expandArchive(MultipartFile archive, List<BatchItem> items, List<Path> tempFiles) {
+        long maxEntrySize = properties.getMaxFileSize().toBytes();
+        long remaining = properties.getMaxArchiveSize().toBytes();
+
+        try (ZipInputStream zip = new ZipInputStream(archive.getInputStream())) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                String fileName = Paths.get(entry.getName()).getFileName().toString();
+                if (fileName.startsWith(".")) {
+                    continue;
+                }
+                if (items.size() >= properties.getMaxBatchFiles()) {
+                    throw new ResumeUploadException("A batch can contain at most " + properties.getMaxBatchFiles() + " files.");
+                }
+
+                Path tempFile = Files.createTempFile("resume-batch-", ".pdf");
+                tempFiles.add(tempFile);
+                // The declared entry size can't be trusted, so the limit is enforced while copying.
+                long copied = copyAtMost(zip, tempFile, Math.min(maxEntrySize, remaining) + 1);
+                remaining -= copied;
+                if (remaining < 0) {
+                    throw new ResumeUploadException("The ZIP archive is too large once extracted.");
+                }
+                if (copied > maxEntrySize) {
+                    items.add(new BatchItem(fileName, BatchUploadStatus.FAILED, tooLargeMessage()));
+                    continue;
+                }
+                items.add(checked(new TempFileSource(fileName, copied, tempFile)));
+            }
+        } catch (IOException e) {
+            throw new ResumeUploadException("The ZIP archive could not be read.", e);
+        }
+    }
+
+    private long copyAtMost(InputStream in, Path target, long limit) throws IOException {
+        byte[] buffer = new byte[8192];
+        long copied = 0;
+        try (OutputStream out = Files.newOutputStream(target)) {
+            int read;
+            while (copied < limit && (read = in.read(buffer, 0, (int) Math.min(buffer.length, limit - copied))) != -1) {
+                out.write(buffer, 0, read);
+                copied += read;
+            }
+        }
+        return copied;
+    }
+
+    private BatchItem checked(UploadSource source) {
+        String fileName = source.fileName();
+        if (source.size() == 0 || fileName == null || !fileName.toLowerCase().endsWith(".pdf")) {
+            return new BatchItem(fileName, BatchUploadStatus.FAILED, "Please upload a valid PDF file.");
+        }
+        if (source.size() > properties.getMaxFileSize().toBytes()) {
+            return new BatchItem(fileName, BatchUploadStatus.FAILED, tooLargeMessage());
+        }
+        return new BatchItem(source);
+    }
+
+    private CompletableFuture<BatchItem> process(BatchItem item, UUID userId, Semaphore extractionSlots) {
+        return CompletableFuture.runAsync(() -> extract(item, extractionSlots), llmExecutor)
+                .thenRunAsync(() -> classify(item, userId), llmExecutor)
+                .thenRunAsync(() -> store(item), llmExecutor)
+                .handle((ignored, error) -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                        item.finish(BatchUploadStatus.FAILED, cause.getMessage());
+                    }
+                    return item;
+                });
+    }
+
+    private void extract(BatchItem item, Semaphore extractionSlots) {
+        extractionSlots.acquireUninterruptibly();
+        try (InputStream inputStream = item.source.open()) {
+            item.parsedText = pdfTextExtractor.extract(inputStream);
+        } catch (IOException e) {
+            throw new ResumeUploadException("The PDF file could not be read.", e);
+        } finally {
+            extractionSlots.release();
+        }
+    }
+
+    /**
+     * Files of the same batch are versioned against the user's stored resumes, not against each other.
+     */
+    private void classify(BatchItem item, UUID userId) {
+        Resume resume = new Resume();
+        resume.setFileName(item.source.fileName());
+        resume.setParsedText(item.parsedText);
+        // A small edit of a confirmed resume doesn't need to be classified again
+        if (!resumeVersioning.assignVersion(resume, userId)) {
+            ContentClassifier.Check check = contentClassifier.checkResume(item.parsedText);
+            if (check == ContentClassifier.Check.REJECTED) {
+                item.finish(BatchUploadStatus.REJECTED, "The uploaded file is not a valid resume or CV.");
+                return;
+            }
+            resume.setModelVerified(check == ContentClassifier.Check.CONFIRMED);
+        }
+        item.resume = resume;
+    }
+
+    private void store(BatchItem item) {
+        if (!item.pending()) {
+            return;
+        }
+        try (InputStream inputStream = item.source.open()) {
+            item.storageKey = resumeBlobStore.store(inputStream, item.source.size());
+        } catch (IOException e) {
+            throw new ResumeUploadException("Could not store file data", e);
+        }
+    }
+
+    private void persist(List<BatchItem> items, User user) {
+        List<BatchItem> chunk = new ArrayList<>(properties.getSaveBatchSize());
+        for (BatchItem item : items) {
+            if (!item.pending()) {
+                continue;
+            }
+            item.resume = toResume(item, user);
+            chunk.add(item);
+            if (chunk.size() == properties.getSaveBatchSize()) {
+                saveChunk(chunk, user);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(chunk, user);
+        }
+    }
+
+    private void saveChunk(List<BatchItem> chunk, User user) {
+        List<Resume> saved;
+        try {
+            saved = resumeRepository.saveAll(chunk.stream().map(item -> item.resume).toList());
+        } catch (RuntimeException e) {
+            log.warn("Saving a batch of {} resumes failed", chunk.size(), e);
+            // Every item gets its status before any cleanup, so a failing delete can't leave one unset
+            for (BatchItem item : chunk) {
+                item.resume = null;
+                item.finish(BatchUploadStatus.FAILED, "The resume could not be saved.");
+            }
+            for (BatchItem item : chunk) {
+                deleteBlobQuietly(item.storageKey);
+            }
+            return;
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            BatchItem item = chunk.get(i);
+            item.resume = saved.get(i);
+            item.finish(BatchUploadStatus.UPLOADED, null);
+            resumeIndex.add(item.resume.getId(), user.getId(), item.parsedText);
+        }
+    }
+
+    private void deleteBlobQuietly(String storageKey) {
+        try {
+            resumeBlobStore.delete(storageKey);
+        } catch (RuntimeException e) {
+            log.warn("Could not delete file data {} of an unsaved resume", storageKey, e);
+        }
+    }
+
+    private Resume toResume(BatchItem item, User user) {
+        Resume resume = item.resume;
+        resume.setFileType("application/pdf");
+        resume.setEmbedding(textVectorizer.vectorize(item.parsedText));
+        resume.setUser(user);
+        resume.setFileSize(item.source.size());
+        resume.setStorageKey(item.storageKey);
+        return resume;
+    }
+
+    private BatchUploadResponse buildResponse(List<BatchItem> items) {
+        int uploaded = 0;
+        int rejected = 0;
+        int failed = 0;
+        List<BatchUploadItemResponse> responses = new ArrayList<>(items.size());
+        for (BatchItem item : items) {
+            switch (item.status) {
+                case UPLOADED -> uploaded++;
+                case REJECTED -> rejected++;
+                case FAILED -> failed++;
+            }
+            responses.add(new BatchUploadItemResponse(
+                    item.source.fileName(),
+                    item.status,
+                    item.resume == null ? null : item.resume.getId(),
+                    item.message
+            ));
+        }
+        return new BatchUploadResponse(uploaded, rejected, failed, responses);
+    }
+
+    private String tooLargeMessage() {
+        return "File too large. Please upload a file smaller than " + properties.getMaxFileSize().toMegabytes() + "MB.";
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary file {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.resume.analyzer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resume.analyzer.config.ClassifierProperties;
+import com.resume.analyzer.config.StructuredAnalysisProperties;
+import com.resume.analyzer.exception.LlmCapacityException;
+import com.resume.analyzer.service.ContentHeuristics.Verdict;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+/**
+ * Decides whether text is a resume or a job description. Obvious cases are settled by
+ * {@link ContentHeuristics}; ambiguous text goes to the model once and the verdict is cached by content hash.
+ * When the model check is shed under load the {@link LlmCapacityException} reaches the caller as a retryable
+ * error instead of a verdict.
+ */
+@Component
+public class ContentClassifier {
+
+    private static final String RESUME = "resume";
+    private static final String JOB_DESCRIPTION = "job-description";
+
+    private final LlmClient llmClient;
+    private final ClassifierProperties properties;
+    private final StructuredAnalysisProperties structuredAnalysisProperties;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, Boolean> verdicts;
+
+    public ContentClassifier(LlmClient llmClient, ClassifierProperties properties,
+                             StructuredAnalysisProperties structuredAnalysisProperties, MeterRegistry meterRegistry) {
+        this.llmClient = llmClient;
+        this.properties = properties;
+        this.structuredAnalysisProperties = structuredAnalysisProperties;
+        this.meterRegistry = meterRegistry;
+        this.verdicts = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verdicts, "classifier");
+    }
+
+    /**
+     * Outcome of a check. Only {@code CONFIRMED} comes from the model, {@code ACCEPTED} passed the local
+     * heuristics alone.
+     */
+    public enum Check {
+        REJECTED, ACCEPTED, CONFIRMED
+    }
+
+    public boolean isResume(String text) {
+        return classifyResume(text) != Check.REJECTED;
+    }
+
+    /**
+     * Check for uploads. With structured analysis the analysis call validates the resume again, so only
+     * clear rejections from the heuristics are enforced here and no model call is made.
+     */
+    public boolean screenResume(String text) {
+        return checkResume(text) != Check.REJECTED;
+    }
+
+    /**
+     * {@link #screenResume(String)} with the source of an acceptance.
+     */
+    public Check checkResume(String text) {
+        if (!structuredAnalysisProperties.isEnabled()) {
+            return classifyResume(text);
+        }
+        return properties.isHeuristicsEnabled() && ContentHeuristics.classifyResume(text) == Verdict.REJECT
+                ? Check.REJECTED
+                : Check.ACCEPTED;
+    }
+
+    private Check classifyResume(String text) {
+        Verdict verdict = properties.isHeuristicsEnabled() ? ContentHeuristics.classifyResume(text) : Verdict.UNSURE;
+        return classify(RESUME, PromptKind.RESUME_CHECK, text, verdict, this::getCheckIfResumeAiPrompt);
+    }
+
+    /**
+     * Local-only counterpart of {@link #isJobDescription(String)}, anything the heuristics can't reject passes.
+     */
+    public boolean screenJobDescription(String text) {
+        return !properties.isHeuristicsEnabled() || ContentHeuristics.classifyJobDescription(text) != Verdict.REJECT;
+    }
+
+    /**
+     * Check for stored job descriptions, the job description counterpart of {@link #screenResume(String)}. Null
+     * when with structured analysis only the screening ran, the analysis itself then has to confirm it.
+     */
+    public Boolean checkJobDescription(String text) {
+        if (structuredAnalysisProperties.isEnabled()) {
+            return screenJobDescription(text) ? null : false;
+        }
+        return isJobDescription(text);
+    }
+
+    /**
+     * Whether {@link #checkJobDescription(String)} answers without a model call: with structured analysis, from
+     * the heuristics or from a cached verdict.
+     */
+    public boolean settlesJobDescriptionLocally(String text) {
+        if (structuredAnalysisProperties.isEnabled()) {
+            return true;
+        }
+        if (properties.isHeuristicsEnabled() && ContentHeuristics.classifyJobDescription(text) != Verdict.UNSURE) {
+            return true;
+        }
+        return verdicts.getIfPresent(ContentHasher.sha256(JOB_DESCRIPTION, ContentHasher.normalize(text))) != null;
+    }
+
+    public boolean isJobDescription(String text) {
+        Verdict verdict = properties.isHeuristicsEnabled() ? ContentHeuristics.classifyJobDescription(text) : Verdict.UNSURE;
+        return classify(JOB_DESCRIPTION, PromptKind.JOB_DESCRIPTION_CHECK, text, verdict, this::getCheckIfValidJobDescriptionAiPrompt)
+                != Check.REJECTED;
+    }
+
+    private Check classify(String kind, PromptKind promptKind, String text, Verdict verdict, UnaryOperator<String> promptBuilder) {
+        if (verdict != Verdict.UNSURE) {
+            record(kind, "heuristic");
+            return verdict == Verdict.ACCEPT ? Check.ACCEPTED : Check.REJECTED;
+        }
+
+        String key = ContentHasher.sha256(kind, ContentHasher.normalize(text));
+        Boolean cached = verdicts.getIfPresent(key);
+        if (cached != null) {
+            record(kind, "cache");
+            return cached ? Check.CONFIRMED : Check.REJECTED;
+        }
+
+        boolean accepted;
+        try {
+            accepted = isAffirmative(llmClient.call(promptKind, promptBuilder.apply(text)));
+        } catch (LlmCapacityException e) {
+            // Validation is the first thing dropped under load; without a verdict the caller has to retry later,
+            // a shed check must never pass as an accepted one
+            if (e.isShed()) {
+                record(kind, "shed");
+            }
+            throw e;
+        }
+        record(kind, "model");
+        verdicts.put(key, accepted);
+        return accepted ? Check.CONFIRMED : Check.REJECTED;
+    }
+
+    private void record(String kind, String source) {
+        meterRegistry.counter("classifier.verdicts", "kind", kind, "source", source).increment();
+    }
+
+    private boolean isAffirmative(String aiResponse) {
+        return !aiResponse.strip().toLowerCase(Locale.ROOT).startsWith("no");
+    }
+
+    private String getCheckIfResumeAiPrompt(String resumeText) {
+        return String.format("""
+                Given the following text, determine whether it is a resume or CV. If it is a resume or CV, respond with 'Yes.' If it is not, respond with 'No.'
+
+                Text: %s"
+
+                Reply with only 'Yes' or 'No' and don't add any other text and don't add any punctuation.
+                """, resumeText);
+    }
+
+    private String getCheckIfValidJobDescriptionAiPrompt(String jobDescription) {
+        return String.format("""
+                Given the following text, determine whether it is a valid Job Description. If it is a valid Job Description, respond with 'Yes.' If it is not, respond with 'No.'
+
+                Text: %s"
+
+                Reply with only 'Yes' or 'No' and don't add any other text and don't add any punctuation.
+                """, jobDescription);
+    }
+}
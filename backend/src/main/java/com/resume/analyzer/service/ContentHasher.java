@@ -0,0 +1,42 @@
+package com.resume.analyzer.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+public final class ContentHasher {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private ContentHasher() {
+    }
+
+    /**
+     * Strips quotes and collapses whitespace so cosmetic differences in pasted text map to the same hash.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(text.replace("\"", "")).replaceAll(" ").trim();
+    }
+
+    public static String sha256(String... parts) {
+        MessageDigest digest = newDigest();
+        for (String part : parts) {
+            digest.update((part == null ? "" : part).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.resume.analyzer.service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Keyword and section heuristics that settle obvious resume / job description verdicts locally.
+ * Anything that is not clearly one way or the other is reported as {@link Verdict#UNSURE}.
+ */
+public final class ContentHeuristics {
+
+    public enum Verdict {
+        ACCEPT,
+        REJECT,
+        UNSURE
+    }
+
+    private static final List<String> RESUME_SECTIONS = List.of(
+            "experience", "education", "skills", "projects", "certifications", "summary",
+            "objective", "employment", "work history", "achievements", "languages", "internship"
+    );
+
+    private static final List<String> JOB_DESCRIPTION_SIGNALS = List.of(
+            "responsibilities", "requirements", "qualifications", "we are looking", "you will",
+            "about the role", "job description", "years of experience", "benefits", "apply",
+            "nice to have", "must have", "preferred", "what you'll do", "who you are", "salary"
+    );
+
+    private static final Pattern EMAIL = Pattern.compile("[\\w.+-]+@[\\w-]+\\.[\\w.]+");
+    private static final Pattern PHONE = Pattern.compile("\\+?\\d[\\d ()-]{8,}\\d");
+    private static final Pattern DATE_RANGE = Pattern.compile(
+            "(19|20)\\d{2}\\s*(-|–|—|to)\\s*((19|20)\\d{2}|present|current)", Pattern.CASE_INSENSITIVE);
+
+    private static final int MIN_RESUME_LENGTH = 200;
+    private static final int MIN_JOB_DESCRIPTION_LENGTH = 30;
+
+    private ContentHeuristics() {
+    }
+
+    public static Verdict classifyResume(String text) {
+        if (text == null || text.length() < MIN_RESUME_LENGTH) {
+            return Verdict.REJECT;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int sections = countSignals(lower, RESUME_SECTIONS);
+        int contact = (EMAIL.matcher(text).find() ? 1 : 0) + (PHONE.matcher(text).find() ? 1 : 0);
+        boolean dated = DATE_RANGE.matcher(text).find();
+
+        if (sections >= 3 && contact >= 1 && dated) {
+            return Verdict.ACCEPT;
+        }
+        if (sections == 0 && contact == 0 && !dated) {
+            return Verdict.REJECT;
+        }
+        return Verdict.UNSURE;
+    }
+
+    public static Verdict classifyJobDescription(String text) {
+        if (text == null || text.isBlank() || text.length() < MIN_JOB_DESCRIPTION_LENGTH) {
+            return Verdict.REJECT;
+        }
+
+        int signals = countSignals(text.toLowerCase(Locale.ROOT), JOB_DESCRIPTION_SIGNALS);
+        if (signals >= 3) {
+            return Verdict.ACCEPT;
+        }
+        return Verdict.UNSURE;
+    }
+
+    private static int countSignals(String lowerText, List<String> signals) {
+        int count = 0;
+        for (String signal : signals) {
+            if (lowerText.contains(signal)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,128 @@
+package com.resume.analyzer.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+
+/**
+ * Feeds streamed model output into Jackson's non-blocking parser and reports each top-level field of the
+ * root JSON object as soon as its value is complete. Text before the first '{' (code fences, preambles)
+ * and anything after the root object is ignored. Tokens are read with the same lenient factory as
+ * {@link AiResponseParser}, so the stream accepts whatever the synchronous path does.
+ */
+public class IncrementalJsonFieldParser {
+
+    private final ObjectMapper objectMapper;
+    private final BiConsumer<String, JsonNode> onField;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final ObjectNode root;
+
+    private boolean started;
+    private boolean finished;
+    private int depth;
+    private String currentField;
+    private TokenBuffer currentValue;
+
+    public IncrementalJsonFieldParser(ObjectMapper objectMapper, JsonFactory jsonFactory,
+                                      BiConsumer<String, JsonNode> onField) throws IOException {
+        this.objectMapper = objectMapper;
+        this.onField = onField;
+        this.parser = jsonFactory.createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.root = objectMapper.createObjectNode();
+    }
+
+    public void feed(String chunk) throws IOException {
+        if (finished || chunk == null || chunk.isEmpty()) {
+            return;
+        }
+        if (!started) {
+            int start = chunk.indexOf('{');
+            if (start < 0) {
+                return;
+            }
+            chunk = chunk.substring(start);
+            started = true;
+        }
+
+        byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+        feeder.feedInput(bytes, 0, bytes.length);
+        drain();
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Returns every field completed so far, assembled into a single object.
+     */
+    public ObjectNode result() {
+        return root;
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while (!finished && (token = parser.nextToken()) != JsonToken.NOT_AVAILABLE && token != null) {
+            if (currentValue != null) {
+                currentValue.copyCurrentEvent(parser);
+            }
+
+            switch (token) {
+                case START_OBJECT, START_ARRAY -> {
+                    if (depth == 1) {
+                        startValue();
+                    }
+                    depth++;
+                }
+                case END_OBJECT, END_ARRAY -> {
+                    depth--;
+                    if (depth == 1) {
+                        completeValue();
+                    } else if (depth == 0) {
+                        finished = true;
+                        feeder.endOfInput();
+                    }
+                }
+                case FIELD_NAME -> {
+                    if (depth == 1) {
+                        currentField = parser.currentName();
+                    }
+                }
+                default -> {
+                    if (depth == 1) {
+                        startValue();
+                        completeValue();
+                    }
+                }
+            }
+        }
+    }
+
+    private void startValue() throws IOException {
+        currentValue = new TokenBuffer(parser, null);
+        currentValue.copyCurrentEvent(parser);
+    }
+
+    private void completeValue() throws IOException {
+        JsonNode value;
+        try (JsonParser valueParser = currentValue.asParser(objectMapper)) {
+            value = objectMapper.readTree(valueParser);
+        }
+        currentValue = null;
+        if (currentField != null) {
+            root.set(currentField, value);
+            onField.accept(currentField, value);
+        }
+    }
+}
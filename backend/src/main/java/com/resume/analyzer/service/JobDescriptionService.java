@@ -0,0 +1,52 @@
+package com.resume.analyzer.service;
+
+import com.resume.analyzer.dto.JobDescriptionRequest;
+import com.resume.analyzer.dto.JobDescriptionResponse;
+import com.resume.analyzer.model.JobDescription;
+
+import java.util.UUID;
+
+public interface JobDescriptionService {
+    JobDescriptionResponse createJobDescription(JobDescriptionRequest request);
+
+    JobDescriptionResponse getJobDescription(UUID id);
+
+    JobDescription findById(UUID id);
+
+    /**
+     * The stored job description with this text, validated and stored on first use. A pending verdict is checked
+     * again, a check shed under load throws {@link com.resume.analyzer.exception.LlmCapacityException}. With
+     * structured analysis the verdict stays pending (null) until an analysis confirms it.
+     */
+    JobDescription resolve(String text);
+
+    /**
+     * Whether {@link #resolve(String)} can answer without a model call.
+     */
+    boolean isSettled(String text);
+
+    /**
+     * The stored job description a request refers to, by id or by text.
+     */
+    JobDescription resolve(JobDescriptionRequest request);
+
+    /**
+     * The job description text of a request, read from the stored job description when it refers to one by id.
+     */
+    String textOf(JobDescriptionRequest request);
+
+    /**
+     * The stored job description a request refers to, with a model verdict when the stored one is pending.
+     */
+    JobDescription verify(JobDescriptionRequest request);
+
+    /**
+     * Records that the model accepted a job description the local checks only screened.
+     */
+    void confirm(String text);
+
+    /**
+     * Records that the model rejected a job description the local checks let through.
+     */
+    void reject(String text);
+}
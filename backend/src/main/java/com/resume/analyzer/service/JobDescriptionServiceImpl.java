@@ -0,0 +1,211 @@
+package com.resume.analyzer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resume.analyzer.config.JobDescriptionCacheProperties;
+import com.resume.analyzer.dto.JobDescriptionRequest;
+import com.resume.analyzer.dto.JobDescriptionResponse;
+import com.resume.analyzer.exception.JobDescriptionNotFoundException;
+import com.resume.analyzer.exception.LlmCapacityException;
+import com.resume.analyzer.exception.ResumeAnalyzeException;
+import com.resume.analyzer.model.JobDescription;
+import com.resume.analyzer.repository.JobDescriptionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Stores each distinct job description once, keyed by a hash of its normalized text. A new job description is
+ * validated and its requirements and vector are computed when it is first stored, later analyses, matches and
+ * saved analyses reuse them. A check shed under load is stored as pending and repeated on the next lookup, with
+ * structured analysis a job description the heuristics let through stays pending until the model confirms it.
+ * Lookups by hash and by id are cached.
+ */
+@Service
+public class JobDescriptionServiceImpl implements JobDescriptionService {
+
+    private final JobDescriptionRepository jobDescriptionRepository;
+    private final ContentClassifier contentClassifier;
+    private final TextVectorizer textVectorizer;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, JobDescription> byHash;
+    private final Cache<UUID, JobDescription> byId;
+
+    public JobDescriptionServiceImpl(JobDescriptionRepository jobDescriptionRepository, ContentClassifier contentClassifier,
+                                     TextVectorizer textVectorizer, JobDescriptionCacheProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.jobDescriptionRepository = jobDescriptionRepository;
+        this.contentClassifier = contentClassifier;
+        this.textVectorizer = textVectorizer;
+        this.meterRegistry = meterRegistry;
+        this.byHash = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byHash, "job-description");
+    }
+
+    @Override
+    public JobDescriptionResponse createJobDescription(JobDescriptionRequest request) {
+        JobDescription jobDescription = resolve(request);
+        // A job description that was only screened is returned as pending
+        if (Boolean.FALSE.equals(jobDescription.getValid())) {
+            throw new ResumeAnalyzeException("The provided job description is not valid.");
+        }
+        return toResponse(jobDescription);
+    }
+
+    @Override
+    public JobDescriptionResponse getJobDescription(UUID id) {
+        return toResponse(findById(id));
+    }
+
+    @Override
+    public JobDescription findById(UUID id) {
+        JobDescription cached = byId.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        JobDescription stored = jobDescriptionRepository.findById(id)
+                .orElseThrow(() -> new JobDescriptionNotFoundException("Job description not found"));
+        cache(stored);
+        return stored;
+    }
+
+    @Override
+    public JobDescription resolve(String text) {
+        String hash = hash(text);
+        return find(hash).map(this::settle).orElseGet(() -> {
+            JobDescription created = create(hash, text);
+            cache(created);
+            return created;
+        });
+    }
+
+    @Override
+    public boolean isSettled(String text) {
+        return find(hash(text)).filter(stored -> stored.getValid() != null).isPresent()
+                || contentClassifier.settlesJobDescriptionLocally(text);
+    }
+
+    @Override
+    public JobDescription resolve(JobDescriptionRequest request) {
+        return request.getJobDescriptionId() != null ? settle(findById(request.getJobDescriptionId())) : resolve(textOf(request));
+    }
+
+    @Override
+    public String textOf(JobDescriptionRequest request) {
+        if (request.getJobDescriptionId() != null) {
+            return findById(request.getJobDescriptionId()).getText();
+        }
+        if (request.getJobDescription() == null || request.getJobDescription().isBlank()) {
+            throw new ResumeAnalyzeException("Please provide a job description.");
+        }
+        return request.getJobDescription();
+    }
+
+    @Override
+    public JobDescription verify(JobDescriptionRequest request) {
+        JobDescription jobDescription = resolve(request);
+        if (jobDescription.getValid() == null) {
+            store(jobDescription, contentClassifier.isJobDescription(jobDescription.getText()));
+        }
+        return jobDescription;
+    }
+
+    @Override
+    public void confirm(String text) {
+        store(resolve(text), true);
+    }
+
+    @Override
+    public void reject(String text) {
+        store(resolve(text), false);
+    }
+
+    private void store(JobDescription jobDescription, boolean valid) {
+        if (!Boolean.valueOf(valid).equals(jobDescription.getValid())) {
+            jobDescriptionRepository.updateValid(jobDescription.getId(), valid);
+            jobDescription.setValid(valid);
+        }
+    }
+
+    private JobDescription create(String hash, String text) {
+        JobDescription jobDescription = new JobDescription();
+        jobDescription.setContentHash(hash);
+        jobDescription.setText(text);
+        LlmCapacityException shed = null;
+        try {
+            jobDescription.setValid(contentClassifier.checkJobDescription(text));
+        } catch (LlmCapacityException e) {
+            // Stored without a verdict, the next lookup checks it again
+            shed = e;
+        }
+        jobDescription.setRequirements(RequirementExtractor.extract(text));
+        jobDescription.setEmbedding(textVectorizer.vectorize(ContentHasher.normalize(text)));
+        JobDescription saved;
+        try {
+            saved = jobDescriptionRepository.save(jobDescription);
+            meterRegistry.counter("job.descriptions.created").increment();
+        } catch (DataIntegrityViolationException e) {
+            // Stored concurrently by another request
+            saved = jobDescriptionRepository.findByContentHash(hash).orElseThrow(() -> e);
+        }
+        if (shed != null && saved.getValid() == null) {
+            cache(saved);
+            throw shed;
+        }
+        return saved;
+    }
+
+    /**
+     * Checks a pending job description again. Throws the capacity error while the model is still unavailable, and
+     * with structured analysis leaves a screened job description pending until an analysis confirms it.
+     */
+    private JobDescription settle(JobDescription jobDescription) {
+        if (jobDescription.getValid() == null) {
+            Boolean valid = contentClassifier.checkJobDescription(jobDescription.getText());
+            if (valid != null) {
+                store(jobDescription, valid);
+            }
+        }
+        return jobDescription;
+    }
+
+    private Optional<JobDescription> find(String hash) {
+        JobDescription cached = byHash.getIfPresent(hash);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<JobDescription> stored = jobDescriptionRepository.findByContentHash(hash);
+        stored.ifPresent(this::cache);
+        return stored;
+    }
+
+    private void cache(JobDescription jobDescription) {
+        byHash.put(jobDescription.getContentHash(), jobDescription);
+        byId.put(jobDescription.getId(), jobDescription);
+    }
+
+    /**
+     * Quotes are stripped from job descriptions before analysis, so they don't make a job description distinct.
+     */
+    private static String hash(String text) {
+        return ContentHasher.sha256(ContentHasher.normalize(text.replace("\"", "")));
+    }
+
+    private static JobDescriptionResponse toResponse(JobDescription jobDescription) {
+        return new JobDescriptionResponse(jobDescription.getId(), jobDescription.getText(), jobDescription.getValid(),
+                jobDescription.getRequirements(), jobDescription.getCreatedAt());
+    }
+}
@@ -0,0 +1,144 @@
+package com.resume.analyzer.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single entry point to the chat model. Every call first gets a permit from the {@link LlmGovernor}, then
+ * runs as an {@code llm.call} observation tagged with its {@link PromptKind}, which gives both a timer and
+ * a tracing span, and prompt sizes and token usage are recorded per kind.
+ */
+@Component
+public class LlmClient {
+
+    private final ChatModel chatModel;
+    private final LlmGovernor governor;
+    private final ObservationRegistry observationRegistry;
+    private final MeterRegistry meterRegistry;
+
+    public LlmClient(ChatModel chatModel, LlmGovernor governor, ObservationRegistry observationRegistry,
+                     MeterRegistry meterRegistry) {
+        this.chatModel = chatModel;
+        this.governor = governor;
+        this.observationRegistry = observationRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public String call(PromptKind kind, String prompt) {
+        record("llm.prompt.size", kind, "chars", prompt.length());
+        try (LlmGovernor.Permit permit = governor.acquire(kind, prompt)) {
+            return observation(kind).observe(() -> {
+                ChatResponse response = callModel(prompt);
+                permit.settle(recordUsage(kind, response));
+                if (response == null || response.getResult() == null || response.getResult().getOutput() == null) {
+                    return "";
+                }
+                String text = response.getResult().getOutput().getText();
+                return text == null ? "" : text;
+            });
+        }
+    }
+
+    public Flux<String> stream(PromptKind kind, String prompt) {
+        record("llm.prompt.size", kind, "chars", prompt.length());
+        return Flux.using(
+                () -> governor.acquire(kind, prompt),
+                permit -> {
+                    Observation observation = observation(kind);
+                    AtomicLong completionChars = new AtomicLong();
+                    return chatModel.stream(prompt)
+                            .doOnSubscribe(subscription -> observation.start())
+                            .doOnNext(chunk -> completionChars.addAndGet(chunk.length()))
+                            .doOnError(error -> {
+                                observation.error(error);
+                                if (isRateLimit(error)) {
+                                    governor.onRateLimited();
+                                }
+                            })
+                            .doFinally(signal -> {
+                                record("llm.completion.size", kind, "chars", completionChars.get());
+                                permit.settle((prompt.length() + completionChars.get()) / LlmGovernor.CHARS_PER_TOKEN);
+                                observation.stop();
+                            });
+                },
+                LlmGovernor.Permit::close);
+    }
+
+    private ChatResponse callModel(String prompt) {
+        try {
+            return chatModel.call(new Prompt(prompt));
+        } catch (RuntimeException e) {
+            if (isRateLimit(e)) {
+                governor.onRateLimited();
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isRateLimit(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof HttpClientErrorException.TooManyRequests
+                    || (current.getMessage() != null && current.getMessage().startsWith("429"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Observation observation(PromptKind kind) {
+        return Observation.createNotStarted("llm.call", observationRegistry)
+                .contextualName("llm " + kind.tag())
+                .parentObservation(observationRegistry.getCurrentObservation())
+                .lowCardinalityKeyValue("kind", kind.tag());
+    }
+
+    /**
+     * Records token usage and returns the total, or 0 when the provider didn't report it.
+     */
+    private long recordUsage(PromptKind kind, ChatResponse response) {
+        if (response == null || response.getMetadata() == null) {
+            return 0;
+        }
+        Usage usage = response.getMetadata().getUsage();
+        if (usage == null) {
+            return 0;
+        }
+        Number promptTokens = usage.getPromptTokens();
+        Number totalTokens = usage.getTotalTokens();
+        if (promptTokens != null) {
+            recordTokens(kind, "prompt", promptTokens.longValue());
+            if (totalTokens != null) {
+                recordTokens(kind, "completion", totalTokens.longValue() - promptTokens.longValue());
+            }
+        }
+        return totalTokens == null ? 0 : totalTokens.longValue();
+    }
+
+    private void recordTokens(PromptKind kind, String type, long tokens) {
+        DistributionSummary.builder("llm.tokens")
+                .baseUnit("tokens")
+                .tag("kind", kind.tag())
+                .tag("type", type)
+                .register(meterRegistry)
+                .record(tokens);
+    }
+
+    private void record(String name, PromptKind kind, String baseUnit, long amount) {
+        DistributionSummary.builder(name)
+                .baseUnit(baseUnit)
+                .tag("kind", kind.tag())
+                .register(meterRegistry)
+                .record(amount);
+    }
+}
@@ -0,0 +1,224 @@
+package com.resume.analyzer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resume.analyzer.config.LlmGovernorProperties;
+import com.resume.analyzer.exception.LlmCapacityException;
+import com.resume.analyzer.security.SecurityUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps model traffic inside the provider quota instead of finding the limit through 429s.
+ * A call needs a per-user slot, a global concurrency slot and room in the requests-per-second and
+ * tokens-per-minute buckets. Low-priority prompts never wait long and give up as soon as the node
+ * runs short, so validation checks are dropped before analyses are delayed.
+ */
+@Component
+public class LlmGovernor {
+
+    static final int CHARS_PER_TOKEN = 4;
+    private static final long MAX_WAIT_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final String ANONYMOUS = "anonymous";
+
+    private final LlmGovernorProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore concurrency;
+    private final TokenBucket requests;
+    private final TokenBucket tokens;
+    private final Cache<String, Semaphore> userSlots;
+    private volatile long pausedUntil = System.nanoTime();
+
+    public LlmGovernor(LlmGovernorProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.concurrency = new Semaphore(properties.getMaxConcurrency(), true);
+        this.requests = new TokenBucket(Math.max(1, properties.getRequestsPerSecond()), properties.getRequestsPerSecond());
+        this.tokens = new TokenBucket(properties.getTokensPerMinute(), properties.getTokensPerMinute() / 60.0);
+        this.userSlots = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+
+        meterRegistry.gauge("llm.governor.in.flight", concurrency, s -> properties.getMaxConcurrency() - s.availablePermits());
+        meterRegistry.gauge("llm.governor.tokens.available", tokens, TokenBucket::available);
+    }
+
+    /**
+     * A granted call. Closing it frees the concurrency slots; {@link #settle(long)} corrects the token
+     * budget once the real usage is known.
+     */
+    public final class Permit implements AutoCloseable {
+        private final Semaphore userSlot;
+        private final long estimatedTokens;
+        private boolean closed;
+
+        private Permit(Semaphore userSlot, long estimatedTokens) {
+            this.userSlot = userSlot;
+            this.estimatedTokens = estimatedTokens;
+        }
+
+        public void settle(long actualTokens) {
+            if (userSlot != null && actualTokens > 0) {
+                tokens.adjust(estimatedTokens - actualTokens);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed || userSlot == null) {
+                return;
+            }
+            closed = true;
+            concurrency.release();
+            userSlot.release();
+        }
+    }
+
+    public Permit acquire(PromptKind kind, String prompt) {
+        long estimatedTokens = prompt.length() / CHARS_PER_TOKEN + kind.expectedCompletionTokens();
+        if (!properties.isEnabled()) {
+            return new Permit(null, estimatedTokens);
+        }
+
+        if (!kind.isHighPriority() && underPressure()) {
+            throw rejected(kind, "shed", true);
+        }
+
+        Duration timeout = kind.isHighPriority() ? properties.getAcquireTimeout() : properties.getLowPriorityAcquireTimeout();
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        Semaphore userSlot = userSlots.get(userKey(), key -> new Semaphore(properties.getPerUserConcurrency(), true));
+        if (!tryAcquire(userSlot, deadline)) {
+            throw rejected(kind, "user-limit", false);
+        }
+        if (!tryAcquire(concurrency, deadline)) {
+            userSlot.release();
+            throw rejected(kind, "concurrency", false);
+        }
+        if (!awaitBudget(estimatedTokens, deadline)) {
+            concurrency.release();
+            userSlot.release();
+            throw rejected(kind, "rate", !kind.isHighPriority());
+        }
+        return new Permit(userSlot, estimatedTokens);
+    }
+
+    /**
+     * Called when the provider answered with a rate limit anyway, holds back new calls for a short cooldown.
+     */
+    public void onRateLimited() {
+        pausedUntil = System.nanoTime() + properties.getCooldown().toNanos();
+        meterRegistry.counter("llm.governor.provider.rate.limited").increment();
+    }
+
+    private boolean underPressure() {
+        return System.nanoTime() - pausedUntil < 0
+                || concurrency.availablePermits() <= properties.getHighPriorityReserve()
+                || tokens.available() < tokens.capacity * 0.1;
+    }
+
+    private boolean awaitBudget(long estimatedTokens, long deadline) {
+        // A single prompt bigger than the whole minute budget would otherwise never be admitted
+        long needed = (long) Math.min(estimatedTokens, tokens.capacity);
+        while (true) {
+            long now = System.nanoTime();
+            if (now - pausedUntil >= 0 && requests.tryTake(1)) {
+                if (tokens.tryTake(needed)) {
+                    return true;
+                }
+                requests.adjust(1);
+            }
+            long remaining = deadline - now;
+            if (remaining <= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(Math.min(remaining, MAX_WAIT_SLICE_NANOS));
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+        }
+    }
+
+    private static boolean tryAcquire(Semaphore semaphore, long deadline) {
+        try {
+            return semaphore.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private LlmCapacityException rejected(PromptKind kind, String reason, boolean shed) {
+        meterRegistry.counter("llm.governor.rejections", "kind", kind.tag(), "reason", reason).increment();
+        return new LlmCapacityException("The AI service is busy, please retry shortly.", shed);
+    }
+
+    private static String userKey() {
+        return SecurityUtil.findCurrentUserId().map(UUID::toString).orElse(ANONYMOUS);
+    }
+
+    /**
+     * Guarded by a {@link ReentrantLock} rather than {@code synchronized} so waiting virtual threads don't pin
+     * their carrier.
+     */
+    private static final class TokenBucket {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final double capacity;
+        private final double refillPerNano;
+        private double available;
+        private long refilledAt = System.nanoTime();
+
+        private TokenBucket(double capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerSecond / 1_000_000_000.0;
+            this.available = capacity;
+        }
+
+        private boolean tryTake(double amount) {
+            lock.lock();
+            try {
+                refill();
+                if (available < amount) {
+                    return false;
+                }
+                available -= amount;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void adjust(double amount) {
+            lock.lock();
+            try {
+                refill();
+                available = Math.min(capacity, available + amount);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private double available() {
+            lock.lock();
+            try {
+                refill();
+                return available;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            available = Math.min(capacity, available + (now - refilledAt) * refillPerNano);
+            refilledAt = now;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.resume.analyzer.service;
+
+import com.resume.analyzer.dto.JobDescriptionRequest;
+import com.resume.analyzer.dto.MatchScoreResponse;
+
+import java.util.UUID;
+
+public interface MatchingService {
+    MatchScoreResponse matchResume(UUID resumeId, JobDescriptionRequest jobDescriptionRequest);
+
+    void evictResume(UUID resumeId);
+}
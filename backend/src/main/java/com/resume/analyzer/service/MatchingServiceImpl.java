@@ -0,0 +1,88 @@
+package com.resume.analyzer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resume.analyzer.config.MatchingCacheProperties;
+import com.resume.analyzer.dto.JobDescriptionRequest;
+import com.resume.analyzer.dto.MatchScoreResponse;
+import com.resume.analyzer.exception.ResumeNotFoundException;
+import com.resume.analyzer.model.Resume;
+import com.resume.analyzer.repository.ResumeRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+@Service
+public class MatchingServiceImpl implements MatchingService {
+
+    private final ResumeRepository resumeRepository;
+    private final TextVectorizer textVectorizer;
+    private final JobDescriptionService jobDescriptionService;
+    private final Cache<UUID, float[]> resumeVectors;
+    private final Cache<String, float[]> jobDescriptionVectors;
+
+    public MatchingServiceImpl(ResumeRepository resumeRepository, TextVectorizer textVectorizer,
+                               JobDescriptionService jobDescriptionService, MatchingCacheProperties properties) {
+        this.resumeRepository = resumeRepository;
+        this.textVectorizer = textVectorizer;
+        this.jobDescriptionService = jobDescriptionService;
+        this.resumeVectors = Caffeine.newBuilder()
+                .maximumSize(properties.getResumeMaximumSize())
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .build();
+        this.jobDescriptionVectors = Caffeine.newBuilder()
+                .maximumSize(properties.getJobDescriptionMaximumSize())
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .build();
+    }
+
+    @Override
+    public MatchScoreResponse matchResume(UUID resumeId, JobDescriptionRequest jobDescriptionRequest) {
+        float[] resumeVector = resumeVectors.get(resumeId, this::loadResumeVector);
+        float[] jobDescriptionVector = jobDescriptionVector(jobDescriptionRequest);
+
+        double similarity = Math.max(0f, TextVectorizer.cosine(resumeVector, jobDescriptionVector));
+        return new MatchScoreResponse(resumeId, (int) Math.round(similarity * 100), similarity);
+    }
+
+    @Override
+    public void evictResume(UUID resumeId) {
+        resumeVectors.invalidate(resumeId);
+    }
+
+    /**
+     * Stored job descriptions carry their vector, free text is vectorized and cached here without being stored.
+     */
+    private float[] jobDescriptionVector(JobDescriptionRequest jobDescriptionRequest) {
+        if (jobDescriptionRequest.getJobDescriptionId() != null) {
+            float[] stored = jobDescriptionService.findById(jobDescriptionRequest.getJobDescriptionId()).getEmbedding();
+            if (stored != null && stored.length == TextVectorizer.DIMENSIONS) {
+                return stored;
+            }
+        }
+        return jobDescriptionVector(jobDescriptionService.textOf(jobDescriptionRequest));
+    }
+
+    private float[] jobDescriptionVector(String jobDescription) {
+        String normalized = ContentHasher.normalize(jobDescription);
+        return jobDescriptionVectors.get(ContentHasher.sha256(normalized), key -> textVectorizer.vectorize(normalized));
+    }
+
+    /**
+     * Reads the stored vector, computing and back-filling it for resumes uploaded before vectors existed.
+     */
+    private float[] loadResumeVector(UUID resumeId) {
+        float[] stored = resumeRepository.findEmbeddingById(resumeId)
+                .orElseThrow(() -> new ResumeNotFoundException("Resume not found"))
+                .getEmbedding();
+        if (stored != null && stored.length == TextVectorizer.DIMENSIONS) {
+            return stored;
+        }
+
+        Resume resume = resumeRepository.findById(resumeId)
+                .orElseThrow(() -> new ResumeNotFoundException("Resume not found"));
+        float[] vector = textVectorizer.vectorize(resume.getParsedText());
+        resumeRepository.updateEmbedding(resumeId, vector);
+        return vector;
+    }
+}
@@ -0,0 +1,237 @@
+package com.resume.analyzer.service;
+
+import com.resume.analyzer.config.PdfExtractionProperties;
+import com.resume.analyzer.exception.ResumeUploadException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Extracts the text of uploaded PDFs on the bounded {@code pdfExecutor}. Documents are buffered in memory only
+ * up to {@code pdf.extraction.max-main-memory} and spill to temp files beyond that, and every extraction is
+ * capped in pages and wall-clock time so a single hostile file can't tie up the node.
+ */
+@Component
+public class PdfTextExtractor {
+
+    private final PdfExtractionProperties properties;
+    private final ExecutorService pdfExecutor;
+    private final Semaphore admissions;
+    private final ThreadLocal<DeadlineTextStripper> strippers = ThreadLocal.withInitial(DeadlineTextStripper::create);
+    private final ObservationRegistry observationRegistry;
+    private final DistributionSummary pages;
+    private final DistributionSummary bytes;
+
+    public PdfTextExtractor(PdfExtractionProperties properties, @Qualifier("pdfExecutor") ExecutorService pdfExecutor,
+                            MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+        this.properties = properties;
+        this.pdfExecutor = pdfExecutor;
+        this.admissions = new Semaphore(properties.getConcurrency() + properties.getQueueCapacity());
+        this.observationRegistry = observationRegistry;
+        this.pages = DistributionSummary.builder("pdf.extraction.pages")
+                .description("Pages per extracted PDF")
+                .register(meterRegistry);
+        this.bytes = DistributionSummary.builder("pdf.extraction.bytes")
+                .description("Size of extracted PDFs")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Number of extractions that run at the same time, callers submitting many files can throttle to this.
+     */
+    public int concurrency() {
+        return properties.getConcurrency();
+    }
+
+    public String extract(InputStream inputStream) {
+        acquireAdmission();
+        Observation observation = Observation.start("pdf.extraction", observationRegistry);
+        String outcome = "failure";
+        Future<String> extraction = null;
+        // Whoever claims first owns the permit: the pdf thread when it starts parsing, the caller when it
+        // gives up before that, so a timed out parse keeps its permit until it has actually stopped
+        AtomicBoolean claimed = new AtomicBoolean();
+        try (Observation.Scope scope = observation.openScope()) {
+            extraction = pdfExecutor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                try {
+                    return parse(inputStream);
+                } finally {
+                    admissions.release();
+                }
+            });
+            String text = extraction.get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            outcome = "success";
+            return text;
+        } catch (RejectedExecutionException e) {
+            throw new ResumeUploadException("The server is busy reading other PDF files. Please try again later.", e);
+        } catch (TimeoutException e) {
+            extraction.cancel(true);
+            outcome = "timeout";
+            throw new ResumeUploadException("The PDF file took too long to read.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            extraction.cancel(true);
+            throw new ResumeUploadException("Reading the PDF file was interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ResumeUploadException uploadException) {
+                throw uploadException;
+            }
+            throw new ResumeUploadException("The PDF file could not be read.", e.getCause());
+        } finally {
+            observation.lowCardinalityKeyValue("outcome", outcome).stop();
+            if (extraction == null || claimed.compareAndSet(false, true)) {
+                admissions.release();
+            }
+        }
+    }
+
+    private void acquireAdmission() {
+        try {
+            if (!admissions.tryAcquire(properties.getQueueTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new ResumeUploadException("The server is busy reading other PDF files. Please try again later.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResumeUploadException("Reading the PDF file was interrupted.", e);
+        }
+    }
+
+    private String parse(InputStream inputStream) {
+        long deadline = System.nanoTime() + properties.getTimeout().toNanos();
+        CountingInputStream counting = new CountingInputStream(inputStream);
+        MemoryUsageSetting memory = MemoryUsageSetting.setupMixed(properties.getMaxMainMemory().toBytes());
+
+        try (PDDocument document = PDDocument.load(counting, memory)) {
+            bytes.record(counting.count);
+            if (document.isEncrypted()) {
+                throw new ResumeUploadException("The PDF file is encrypted and cannot be read.");
+            }
+            int pageCount = document.getNumberOfPages();
+            pages.record(pageCount);
+            if (pageCount > properties.getMaxPages()) {
+                throw new ResumeUploadException("The PDF file has more than " + properties.getMaxPages() + " pages.");
+            }
+
+            DeadlineTextStripper stripper = strippers.get();
+            stripper.deadline = deadline;
+            stripper.output.buffer.setLength(0);
+            stripper.writeText(document, stripper.output);
+            return TextNormalizer.normalizeExtracted(stripper.output.buffer);
+        } catch (InterruptedIOException e) {
+            throw new ResumeUploadException("The PDF file took too long to read.", e);
+        } catch (IOException e) {
+            throw new ResumeUploadException("The PDF file could not be read.", e);
+        }
+    }
+
+    /**
+     * Reused per pdf thread together with its output buffer. Checks the deadline and interruption between
+     * pages, which is where long-running extractions spend their time.
+     */
+    private static final class DeadlineTextStripper extends PDFTextStripper {
+        private final StringBuilderWriter output = new StringBuilderWriter();
+        private long deadline;
+
+        private DeadlineTextStripper() throws IOException {
+            super();
+        }
+
+        private static DeadlineTextStripper create() {
+            try {
+                return new DeadlineTextStripper();
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not create PDF text stripper", e);
+            }
+        }
+
+        @Override
+        protected void startPage(PDPage page) throws IOException {
+            if (Thread.currentThread().isInterrupted() || System.nanoTime() > deadline) {
+                throw new InterruptedIOException("PDF text extraction exceeded its time limit");
+            }
+            super.startPage(page);
+        }
+    }
+
+    /**
+     * A {@link java.io.StringWriter} without the synchronized {@link StringBuffer}, the normalizer reads the
+     * buffer one {@code charAt} at a time.
+     */
+    private static final class StringBuilderWriter extends Writer {
+        private final StringBuilder buffer = new StringBuilder(8192);
+
+        @Override
+        public void write(int c) {
+            buffer.append((char) c);
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public void write(String str, int offset, int length) {
+            buffer.append(str, offset, offset + length);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value != -1) {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+}
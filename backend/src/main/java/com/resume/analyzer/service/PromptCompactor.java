@@ -0,0 +1,302 @@
+package com.resume.analyzer.service;
+
+import com.resume.analyzer.config.PromptCompactionProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Shrinks resume and job description text before it goes into the analysis prompt. Repeated lines, separators
+ * and boilerplate are dropped, and when a text is still over its token budget each keeps its opening section
+ * and then the sections sharing the most terms with the other text. Requirement sections of a job description
+ * come before the rest of it. Tokens are estimated locally at {@link LlmGovernor#CHARS_PER_TOKEN} characters each.
+ */
+@Component
+public class PromptCompactor {
+
+    private static final Pattern BOILERPLATE = Pattern.compile(
+            "references (are )?available (up)?on request\\.?|page \\d+( of \\d+)?|curriculum vitae|resume|cv"
+                    + "|.*equal opportunity employer.*|.*qualified applicants will receive consideration.*"
+                    + "|.*reasonable accommodations?.*"
+                    + "|(please )?(see|read|review|view) our (applicant |candidate )?privacy (policy|notice).*"
+                    + "|by (applying|submitting).*privacy (policy|notice).*|(applicant |candidate )?privacy (policy|notice)",
+            Pattern.CASE_INSENSITIVE);
+
+    // Section priorities, ahead of relevance: the opening section (name, job title) always comes first
+    private static final int OPENING = 2;
+    private static final int REQUIREMENTS = 1;
+    private static final int OTHER = 0;
+
+    private final PromptCompactionProperties properties;
+    private final DistributionSummary resumeBytesSaved;
+    private final DistributionSummary resumeTokensSaved;
+    private final DistributionSummary jobDescriptionBytesSaved;
+    private final DistributionSummary jobDescriptionTokensSaved;
+
+    public PromptCompactor(PromptCompactionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.resumeBytesSaved = bytesSaved(meterRegistry, "resume");
+        this.resumeTokensSaved = tokensSaved(meterRegistry, "resume");
+        this.jobDescriptionBytesSaved = bytesSaved(meterRegistry, "job_description");
+        this.jobDescriptionTokensSaved = tokensSaved(meterRegistry, "job_description");
+    }
+
+    /**
+     * Builds the analysis prompt from compacted inputs.
+     */
+    public String analysisPrompt(String jobDescription, String resumeText) {
+        return compacted(jobDescription, resumeText, AnalysisPrompts::analysisPrompt);
+    }
+
+    /**
+     * Builds the single structured analysis prompt from compacted inputs.
+     */
+    public String structuredAnalysisPrompt(String jobDescription, String resumeText, String format) {
+        return compacted(jobDescription, resumeText,
+                (compactJobDescription, compactResume) -> AnalysisPrompts.structuredAnalysisPrompt(compactJobDescription, compactResume, format));
+    }
+
+    /**
+     * Builds the delta analysis prompt for an edited resume. Only the job description is compacted, the changed
+     * sections are already a small part of the resume.
+     */
+    public String deltaAnalysisPrompt(String jobDescription, String previousAnalysis, String changedSections,
+                                      String removedSections) {
+        String compactJobDescription = jobDescription;
+        if (properties.isEnabled()) {
+            compactJobDescription = compactJobDescription(jobDescription, changedSections);
+            record(jobDescription, compactJobDescription, jobDescriptionBytesSaved, jobDescriptionTokensSaved);
+        }
+        return AnalysisPrompts.deltaAnalysisPrompt(compactJobDescription, previousAnalysis, changedSections, removedSections);
+    }
+
+    private String compacted(String jobDescription, String resumeText, BinaryOperator<String> promptBuilder) {
+        if (!properties.isEnabled()) {
+            return promptBuilder.apply(jobDescription, resumeText);
+        }
+        String compactJobDescription = compactJobDescription(jobDescription, resumeText);
+        String compactResume = compactResume(resumeText, compactJobDescription);
+        record(jobDescription, compactJobDescription, jobDescriptionBytesSaved, jobDescriptionTokensSaved);
+        record(resumeText, compactResume, resumeBytesSaved, resumeTokensSaved);
+        return promptBuilder.apply(compactJobDescription, compactResume);
+    }
+
+    String compactJobDescription(String jobDescription, String resumeText) {
+        List<String> lines = cleanLines(jobDescription);
+        int budget = properties.getJobDescriptionTokenBudget() * LlmGovernor.CHARS_PER_TOKEN;
+        if (joinedLength(lines, 0, lines.size()) <= budget) {
+            return String.join("\n", lines);
+        }
+        Set<String> resumeTerms = new HashSet<>(TermExtractor.terms(resumeText));
+        List<Section> sections = sections(lines, RequirementExtractor::isHeading, (start, end) -> new Section(start, end,
+                start == 0 ? OPENING : RequirementExtractor.isRequirementHeading(lines.get(start)) ? REQUIREMENTS : OTHER,
+                relevance(lines, start, end, resumeTerms)));
+        return keepWithin(lines, sections, budget);
+    }
+
+    String compactResume(String resumeText, String jobDescription) {
+        List<String> lines = cleanLines(resumeText);
+        int budget = properties.getResumeTokenBudget() * LlmGovernor.CHARS_PER_TOKEN;
+        if (joinedLength(lines, 0, lines.size()) <= budget) {
+            return String.join("\n", lines);
+        }
+        Set<String> jobTerms = new HashSet<>(TermExtractor.terms(jobDescription));
+        List<Section> sections = sections(lines, ResumeSections::isHeading, (start, end) -> new Section(start, end,
+                start == 0 ? OPENING : OTHER, relevance(lines, start, end, jobTerms)));
+        return keepWithin(lines, sections, budget);
+    }
+
+    /**
+     * Keeps whole sections in order of priority and relevance while they fit, then the leading lines of whatever
+     * still has room, and joins what was kept in the original order.
+     */
+    private static String keepWithin(List<String> lines, List<Section> sections, int budget) {
+        List<Section> byRelevance = new ArrayList<>(sections);
+        byRelevance.sort(Comparator.comparingInt(Section::priority).thenComparingDouble(Section::score).reversed());
+
+        int used = 0;
+        for (Section section : byRelevance) {
+            int available = budget - used;
+            int length = joinedLength(lines, section.start, section.end);
+            if (length <= available) {
+                section.keep = section.end;
+                used += length;
+                continue;
+            }
+            int keep = section.start;
+            int kept = 0;
+            while (keep < section.end && kept + lines.get(keep).length() + 1 <= available) {
+                kept += lines.get(keep).length() + 1;
+                keep++;
+            }
+            // A lone heading without any content is not worth its tokens
+            if (keep - section.start > 1 || section.start == 0) {
+                section.keep = keep;
+                used += kept;
+            }
+        }
+
+        StringBuilder out = new StringBuilder(budget);
+        for (Section section : sections) {
+            for (int i = section.start; i < section.keep; i++) {
+                if (!out.isEmpty()) {
+                    out.append('\n');
+                }
+                out.append(lines.get(i));
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Trimmed, non-empty lines with repeats, separators and boilerplate removed.
+     */
+    private static List<String> cleanLines(String text) {
+        List<String> lines = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return lines;
+        }
+        Set<String> seen = new HashSet<>();
+        for (String raw : text.split("\n")) {
+            String line = raw.strip();
+            if (line.isEmpty() || !hasLetterOrDigit(line) || BOILERPLATE.matcher(line).matches()) {
+                continue;
+            }
+            if (seen.add(line.toLowerCase(Locale.ROOT).replaceAll("\\s+", " "))) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    private static List<Section> sections(List<String> lines, Predicate<String> isHeading,
+                                          BiFunction<Integer, Integer, Section> section) {
+        List<Section> sections = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= lines.size(); i++) {
+            if (i == lines.size() || isHeading.test(lines.get(i))) {
+                sections.add(section.apply(start, i));
+                start = i;
+            }
+        }
+        return sections;
+    }
+
+    /**
+     * Share of the section's distinct terms that appear in the other text, damped so long sections don't win on
+     * size alone.
+     */
+    private static double relevance(List<String> lines, int start, int end, Set<String> otherTerms) {
+        Set<String> terms = new HashSet<>();
+        for (int i = start; i < end; i++) {
+            terms.addAll(TermExtractor.terms(lines.get(i)));
+        }
+        if (terms.isEmpty()) {
+            return 0;
+        }
+        int matched = 0;
+        for (String term : terms) {
+            if (otherTerms.contains(term)) {
+                matched++;
+            }
+        }
+        return matched / Math.sqrt(terms.size());
+    }
+
+    private static boolean hasLetterOrDigit(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            if (Character.isLetterOrDigit(line.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int joinedLength(List<String> lines, int start, int end) {
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            length += lines.get(i).length() + 1;
+        }
+        return length;
+    }
+
+    private static void record(String original, String compacted, DistributionSummary bytes, DistributionSummary tokens) {
+        bytes.record(Math.max(0, utf8Length(original) - utf8Length(compacted)));
+        tokens.record(Math.max(0, (length(original) - length(compacted)) / LlmGovernor.CHARS_PER_TOKEN));
+    }
+
+    private static long utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        long bytes = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static DistributionSummary bytesSaved(MeterRegistry meterRegistry, String input) {
+        return DistributionSummary.builder("prompt.compaction.saved")
+                .description("Prompt input removed by compaction")
+                .baseUnit("bytes")
+                .tag("input", input)
+                .register(meterRegistry);
+    }
+
+    private static DistributionSummary tokensSaved(MeterRegistry meterRegistry, String input) {
+        return DistributionSummary.builder("prompt.compaction.tokens.saved")
+                .description("Estimated prompt tokens removed by compaction")
+                .tag("input", input)
+                .register(meterRegistry);
+    }
+
+    private static final class Section {
+        private final int start;
+        private final int end;
+        private final int priority;
+        private final double score;
+        private int keep;
+
+        private Section(int start, int end, int priority, double score) {
+            this.start = start;
+            this.end = end;
+            this.priority = priority;
+            this.score = score;
+            this.keep = start;
+        }
+
+        private int priority() {
+            return priority;
+        }
+
+        private double score() {
+            return score;
+        }
+    }
+}
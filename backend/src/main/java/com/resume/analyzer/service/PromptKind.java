@@ -0,0 +1,33 @@
+package com.resume.analyzer.service;
+
+public enum PromptKind {
+    RESUME_CHECK("resume-check", false, 5),
+    JOB_DESCRIPTION_CHECK("job-description-check", false, 5),
+    ANALYSIS("analysis", true, 1000),
+    AD_HOC("ad-hoc", false, 500);
+
+    private final String tag;
+    private final boolean highPriority;
+    private final int expectedCompletionTokens;
+
+    PromptKind(String tag, boolean highPriority, int expectedCompletionTokens) {
+        this.tag = tag;
+        this.highPriority = highPriority;
+        this.expectedCompletionTokens = expectedCompletionTokens;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    /**
+     * Low-priority prompts are shed first when the model quota runs short.
+     */
+    public boolean isHighPriority() {
+        return highPriority;
+    }
+
+    public int expectedCompletionTokens() {
+        return expectedCompletionTokens;
+    }
+}
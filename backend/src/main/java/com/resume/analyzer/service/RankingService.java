@@ -0,0 +1,8 @@
+package com.resume.analyzer.service;
+
+import com.resume.analyzer.dto.RankRequest;
+import com.resume.analyzer.dto.RankResponse;
+
+public interface RankingService {
+    RankResponse rank(RankRequest rankRequest);
+}
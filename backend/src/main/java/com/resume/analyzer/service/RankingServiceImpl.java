@@ -0,0 +1,82 @@
+package com.resume.analyzer.service;
+
+import com.resume.analyzer.dto.JobDescriptionRequest;
+import com.resume.analyzer.dto.RankRequest;
+import com.resume.analyzer.dto.RankResponse;
+import com.resume.analyzer.dto.RankedResumeResponse;
+import com.resume.analyzer.dto.ResumeAnalysisResponse;
+import com.resume.analyzer.exception.ResumeAnalyzeException;
+import com.resume.analyzer.security.SecurityUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+@Service
+public class RankingServiceImpl implements RankingService {
+
+    private static final Logger log = LoggerFactory.getLogger(RankingServiceImpl.class);
+
+    private static final int MAX_LIMIT = 1000;
+    private static final int MAX_ANALYZE_TOP = 5;
+
+    private final ResumeIndex resumeIndex;
+    private final ResumeService resumeService;
+    private final ExecutorService llmExecutor;
+
+    public RankingServiceImpl(ResumeIndex resumeIndex, ResumeService resumeService,
+                              @Qualifier("llmExecutor") ExecutorService llmExecutor) {
+        this.resumeIndex = resumeIndex;
+        this.resumeService = resumeService;
+        this.llmExecutor = llmExecutor;
+    }
+
+    @Override
+    public RankResponse rank(RankRequest rankRequest) {
+        String jobDescription = rankRequest.getJobDescription();
+        if (!StringUtils.hasText(jobDescription)) {
+            throw new ResumeAnalyzeException("A job description is required for ranking.");
+        }
+
+        // Users only ever rank their own resumes, the analyses below run with the caller's identity
+        UUID ownerFilter = SecurityUtil.getCurrentUserId();
+        int limit = Math.max(1, Math.min(rankRequest.getLimit(), MAX_LIMIT));
+        List<ResumeIndex.ScoredResume> ranked = resumeIndex.topK(jobDescription, ownerFilter, limit);
+
+        int analyzeTop = Math.max(0, Math.min(rankRequest.getAnalyzeTop(), Math.min(MAX_ANALYZE_TOP, ranked.size())));
+        List<Future<ResumeAnalysisResponse>> analyses = new ArrayList<>(analyzeTop);
+        for (int i = 0; i < analyzeTop; i++) {
+            UUID resumeId = ranked.get(i).resumeId();
+            analyses.add(llmExecutor.submit(() ->
+                    resumeService.analyzeResumeWithAI(resumeId, new JobDescriptionRequest(jobDescription))));
+        }
+
+        List<RankedResumeResponse> results = new ArrayList<>(ranked.size());
+        for (int i = 0; i < ranked.size(); i++) {
+            ResumeIndex.ScoredResume scored = ranked.get(i);
+            ResumeAnalysisResponse analysis = i < analyses.size() ? await(analyses.get(i), scored.resumeId()) : null;
+            results.add(new RankedResumeResponse(scored.resumeId(), scored.score(), analysis));
+        }
+        return new RankResponse(results, resumeIndex.size());
+    }
+
+    private ResumeAnalysisResponse await(Future<ResumeAnalysisResponse> analysis, UUID resumeId) {
+        try {
+            return analysis.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            log.warn("Detailed analysis failed for resume {}", resumeId, e.getCause());
+            return null;
+        }
+    }
+}
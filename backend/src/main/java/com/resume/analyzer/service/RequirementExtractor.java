@@ -0,0 +1,165 @@
+package com.resume.analyzer.service;
+
+import com.resume.analyzer.dto.JobRequirements;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Pulls the structured requirements out of a job description without a model call: the most frequent terms of
+ * its requirement sections, the required years of experience and the seniority level.
+ */
+public final class RequirementExtractor {
+
+    private static final int MAX_SKILLS = 25;
+    private static final int TITLE_LINES = 3;
+    private static final String BULLETS = "-*\u2022\u00b7\u2013";
+
+    private static final Pattern YEARS = Pattern.compile(
+            "\\b(\\d{1,2})\\s*\\+?\\s*(?:(?:-|to)\\s*\\d{1,2}\\s*)?\\+?\\s*years?\\b", Pattern.CASE_INSENSITIVE);
+
+    // Most senior first, the first level found wins
+    private static final Map<String, Pattern> SENIORITY = seniorityLevels();
+
+    private static final List<String> REQUIREMENT_HEADINGS = List.of(
+            "requirement", "qualification", "skill", "must have", "nice to have", "what you bring", "you have",
+            "you will need", "about you", "experience", "preferred", "tech stack"
+    );
+
+    private static final Set<String> FILLER = Set.of(
+            "strong", "knowledge", "ability", "skills", "skill", "excellent", "good", "understanding", "plus",
+            "including", "must", "should", "preferred", "required", "requirements", "qualifications", "degree",
+            "proficiency", "proficient", "familiarity", "familiar", "solid", "hands", "least", "more", "other", "such",
+            "new", "can", "able", "would", "well", "bonus", "nice", "have", "need", "not", "all", "any", "one",
+            "great", "related", "relevant", "similar", "equivalent", "demonstrated", "proven", "communication"
+    );
+
+    private RequirementExtractor() {
+    }
+
+    public static JobRequirements extract(String text) {
+        if (text == null || text.isBlank()) {
+            return new JobRequirements();
+        }
+        String[] lines = text.split("\n");
+        return new JobRequirements(skills(lines), minYears(text), seniority(lines));
+    }
+
+    private static List<String> skills(String[] lines) {
+        StringBuilder requirements = new StringBuilder();
+        boolean inRequirements = false;
+        for (String line : lines) {
+            String stripped = line.strip();
+            if (isHeading(stripped)) {
+                inRequirements = isRequirementHeading(stripped);
+                continue;
+            }
+            if (inRequirements) {
+                requirements.append(stripped).append('\n');
+            }
+        }
+        // Job descriptions without recognisable sections are ranked as a whole
+        String source = requirements.isEmpty() ? String.join("\n", lines) : requirements.toString();
+
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String term : TermExtractor.terms(source)) {
+            if (!FILLER.contains(term) && !isNumber(term)) {
+                counts.merge(term, 1, Integer::sum);
+            }
+        }
+        List<Map.Entry<String, Integer>> ranked = new ArrayList<>(counts.entrySet());
+        // Stable sort keeps first-mentioned terms ahead on ties
+        ranked.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+
+        List<String> skills = new ArrayList<>(Math.min(MAX_SKILLS, ranked.size()));
+        for (int i = 0; i < ranked.size() && i < MAX_SKILLS; i++) {
+            skills.add(ranked.get(i).getKey());
+        }
+        return skills;
+    }
+
+    /**
+     * The highest lower bound stated, "3+ years" and "3-5 years" both count as 3.
+     */
+    private static Integer minYears(String text) {
+        Integer years = null;
+        Matcher matcher = YEARS.matcher(text);
+        while (matcher.find()) {
+            int value = Integer.parseInt(matcher.group(1));
+            if (value > 0 && value <= 30 && (years == null || value > years)) {
+                years = value;
+            }
+        }
+        return years;
+    }
+
+    /**
+     * Prefers the level named in the title lines, body text like "mentor junior engineers" is only a fallback.
+     */
+    private static String seniority(String[] lines) {
+        StringBuilder title = new StringBuilder();
+        for (int i = 0, found = 0; i < lines.length && found < TITLE_LINES; i++) {
+            if (!lines[i].isBlank()) {
+                title.append(lines[i]).append('\n');
+                found++;
+            }
+        }
+        String level = seniority(title.toString());
+        return level != null ? level : seniority(String.join("\n", lines));
+    }
+
+    private static String seniority(String text) {
+        for (Map.Entry<String, Pattern> level : SENIORITY.entrySet()) {
+            if (level.getValue().matcher(text).find()) {
+                return level.getKey();
+            }
+        }
+        return null;
+    }
+
+    static boolean isHeading(String line) {
+        if (line.isEmpty() || BULLETS.indexOf(line.charAt(0)) >= 0) {
+            return false;
+        }
+        return ResumeSections.isHeading(line) || (line.endsWith(":") && line.length() <= 40);
+    }
+
+    static boolean isRequirementHeading(String heading) {
+        String lower = heading.toLowerCase(Locale.ROOT);
+        for (String keyword : REQUIREMENT_HEADINGS) {
+            if (lower.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // "5+" from "5+ years" survives term extraction
+    private static boolean isNumber(String term) {
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (!Character.isDigit(c) && c != '+') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, Pattern> seniorityLevels() {
+        Map<String, Pattern> levels = new LinkedHashMap<>();
+        levels.put("principal", Pattern.compile("\\b(principal|distinguished)\\b", Pattern.CASE_INSENSITIVE));
+        levels.put("staff", Pattern.compile("\\bstaff\\s+(engineer|developer|scientist)\\b", Pattern.CASE_INSENSITIVE));
+        levels.put("lead", Pattern.compile("\\b(lead|head of|manager)\\b", Pattern.CASE_INSENSITIVE));
+        levels.put("senior", Pattern.compile("\\b(senior|sr\\.?)\\s", Pattern.CASE_INSENSITIVE));
+        levels.put("mid", Pattern.compile("\\b(mid|intermediate)(-|\\s)?level\\b|\\bmid\\s", Pattern.CASE_INSENSITIVE));
+        levels.put("junior", Pattern.compile("\\b(junior|jr\\.?|entry(-|\\s)level|graduate)\\s", Pattern.CASE_INSENSITIVE));
+        levels.put("intern", Pattern.compile("\\b(intern|internship|trainee)\\b", Pattern.CASE_INSENSITIVE));
+        return levels;
+    }
+}
@@ -0,0 +1,29 @@
+package com.resume.analyzer.service;
+
+import com.resume.analyzer.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset position in a resume listing: the (uploadedAt, id) of the last row already returned.
+ */
+record ResumeCursor(LocalDateTime uploadedAt, UUID id) {
+
+    String encode() {
+        String raw = uploadedAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ResumeCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new ResumeCursor(LocalDateTime.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid pagination cursor");
+        }
+    }
+}
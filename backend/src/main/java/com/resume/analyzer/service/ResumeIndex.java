@@ -0,0 +1,244 @@
+package com.resume.analyzer.service;
+
+import com.resume.analyzer.repository.ResumeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory inverted index over resume terms, scored with BM25.
+ * Documents get dense int ids in insertion order, so every posting list is sorted by document and the
+ * document space can be split into disjoint ranges that are scored in parallel without sharing state.
+ */
+@Component
+public class ResumeIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeIndex.class);
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MIN_DOCS_PER_PARTITION = 2048;
+    private static final int BUILD_PAGE_SIZE = 500;
+
+    public record ScoredResume(UUID resumeId, float score) {
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        private void add(int doc, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        private int firstAtOrAfter(int doc) {
+            int index = Arrays.binarySearch(docs, 0, size, doc);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+
+    private final ResumeRepository resumeRepository;
+    private final ExecutorService llmExecutor;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<UUID, Integer> docsByResumeId = new HashMap<>();
+
+    private UUID[] resumeIds = new UUID[1024];
+    private UUID[] owners = new UUID[1024];
+    private int[] lengths = new int[1024];
+    private int docCount;
+    private int liveDocs;
+    private long totalLength;
+
+    public ResumeIndex(ResumeRepository resumeRepository, @Qualifier("llmExecutor") ExecutorService llmExecutor) {
+        this.resumeRepository = resumeRepository;
+        this.llmExecutor = llmExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInBackground() {
+        llmExecutor.execute(this::build);
+    }
+
+    private void build() {
+        long started = System.nanoTime();
+        Pageable page = PageRequest.of(0, BUILD_PAGE_SIZE);
+        Slice<ResumeRepository.IndexView> slice;
+        do {
+            slice = resumeRepository.findIndexViews(page);
+            for (ResumeRepository.IndexView view : slice) {
+                add(view.getId(), view.getUserId(), view.getParsedText());
+            }
+            page = slice.nextPageable();
+        } while (slice.hasNext());
+        log.info("Indexed {} resumes in {} ms", size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public void add(UUID resumeId, UUID ownerId, String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        List<String> terms = TermExtractor.terms(text);
+        for (String term : terms) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (docsByResumeId.containsKey(resumeId)) {
+                return;
+            }
+            int doc = docCount++;
+            ensureCapacity(docCount);
+            resumeIds[doc] = resumeId;
+            owners[doc] = ownerId;
+            lengths[doc] = terms.size();
+            docsByResumeId.put(resumeId, doc);
+            liveDocs++;
+            totalLength += terms.size();
+            frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, t -> new Postings()).add(doc, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID resumeId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docsByResumeId.remove(resumeId);
+            if (doc == null) {
+                return;
+            }
+            // Postings keep pointing at the slot; a null resume id marks it as deleted when scoring.
+            resumeIds[doc] = null;
+            totalLength -= lengths[doc];
+            liveDocs--;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the {@code k} best BM25 matches for the query, optionally restricted to one owner's resumes.
+     */
+    public List<ScoredResume> topK(String query, UUID ownerFilter, int k) {
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(TermExtractor.terms(query)));
+
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0 || queryTerms.isEmpty() || k <= 0) {
+                return List.of();
+            }
+
+            List<Postings> matched = new ArrayList<>();
+            List<Float> idfs = new ArrayList<>();
+            for (String term : queryTerms) {
+                Postings termPostings = postings.get(term);
+                if (termPostings != null) {
+                    matched.add(termPostings);
+                    idfs.add((float) Math.log(1 + (liveDocs - termPostings.size + 0.5) / (termPostings.size + 0.5)));
+                }
+            }
+            if (matched.isEmpty()) {
+                return List.of();
+            }
+
+            int docs = docCount;
+            float averageLength = Math.max(1f, (float) totalLength / liveDocs);
+            float[] scores = new float[docs];
+            int partitions = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, docs / MIN_DOCS_PER_PARTITION));
+
+            return IntStream.range(0, partitions)
+                    .parallel()
+                    .mapToObj(partition -> {
+                        int from = (int) ((long) docs * partition / partitions);
+                        int to = (int) ((long) docs * (partition + 1) / partitions);
+                        accumulate(matched, idfs, scores, from, to, averageLength);
+                        return collect(scores, from, to, ownerFilter, k);
+                    })
+                    .flatMap(PriorityQueue::stream)
+                    .sorted(Comparator.comparingDouble(ScoredResume::score).reversed())
+                    .limit(k)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void accumulate(List<Postings> matched, List<Float> idfs, float[] scores, int from, int to, float averageLength) {
+        for (int t = 0; t < matched.size(); t++) {
+            Postings termPostings = matched.get(t);
+            float idf = idfs.get(t);
+            for (int i = termPostings.firstAtOrAfter(from); i < termPostings.size; i++) {
+                int doc = termPostings.docs[i];
+                if (doc >= to) {
+                    break;
+                }
+                float frequency = termPostings.frequencies[i];
+                float norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                scores[doc] += idf * frequency * (K1 + 1) / (frequency + norm);
+            }
+        }
+    }
+
+    private PriorityQueue<ScoredResume> collect(float[] scores, int from, int to, UUID ownerFilter, int k) {
+        PriorityQueue<ScoredResume> heap = new PriorityQueue<>(k + 1, Comparator.comparingDouble(ScoredResume::score));
+        for (int doc = from; doc < to; doc++) {
+            float score = scores[doc];
+            if (score <= 0f || resumeIds[doc] == null || (ownerFilter != null && !ownerFilter.equals(owners[doc]))) {
+                continue;
+            }
+            if (heap.size() < k) {
+                heap.offer(new ScoredResume(resumeIds[doc], score));
+            } else if (score > heap.peek().score()) {
+                heap.poll();
+                heap.offer(new ScoredResume(resumeIds[doc], score));
+            }
+        }
+        return heap;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= resumeIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, resumeIds.length * 2);
+        resumeIds = Arrays.copyOf(resumeIds, capacity);
+        owners = Arrays.copyOf(owners, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+    }
+}
@@ -0,0 +1,142 @@
+package com.resume.analyzer.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits resume text into sections at recognised headings and compares two versions section by section using
+ * content hashes, so small edits can be told apart from a different document.
+ */
+public final class ResumeSections {
+
+    private static final Set<String> HEADINGS = Set.of(
+            "summary", "profile", "professional summary", "objective", "about me", "experience", "work experience",
+            "professional experience", "employment", "employment history", "work history", "education", "skills",
+            "technical skills", "core competencies", "projects", "certifications", "certificates", "courses",
+            "training", "awards", "achievements", "publications", "languages", "interests", "hobbies",
+            "volunteering", "volunteer experience", "references"
+    );
+
+    private static final int MAX_HEADING_LENGTH = 40;
+
+    private ResumeSections() {
+    }
+
+    /**
+     * A section with its heading line, or an empty heading for the lines before the first heading.
+     */
+    record Section(String heading, String text) {
+
+        String hash() {
+            return ContentHasher.sha256(ContentHasher.normalize(text));
+        }
+    }
+
+    /**
+     * Sections of {@code text} that are new or edited compared to the previous version, the headings of sections
+     * that were dropped, and how much of the current text changed.
+     */
+    record Diff(List<Section> changed, List<String> removed, int changedChars, int totalChars) {
+
+        boolean unchanged() {
+            return changed.isEmpty() && removed.isEmpty();
+        }
+
+        double changedShare() {
+            return totalChars == 0 ? 1.0 : (double) changedChars / totalChars;
+        }
+    }
+
+    static List<Section> split(String text) {
+        List<Section> sections = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return sections;
+        }
+        String heading = "";
+        StringBuilder current = new StringBuilder();
+        for (String line : text.split("\n")) {
+            String stripped = line.strip();
+            if (isHeading(stripped) && !current.isEmpty()) {
+                sections.add(new Section(heading, current.toString()));
+                current.setLength(0);
+            }
+            if (isHeading(stripped) && current.isEmpty()) {
+                heading = stripped;
+            }
+            if (!current.isEmpty()) {
+                current.append('\n');
+            }
+            current.append(line);
+        }
+        if (!current.isEmpty()) {
+            sections.add(new Section(heading, current.toString()));
+        }
+        return sections;
+    }
+
+    public static List<String> hashes(String text) {
+        List<String> hashes = new ArrayList<>();
+        for (Section section : split(text)) {
+            hashes.add(section.hash());
+        }
+        return hashes;
+    }
+
+    /**
+     * Compares {@code currentText} with a previous version. {@code previousHashes} are the stored section hashes
+     * of that version, when missing they are computed from {@code previousText}.
+     */
+    static Diff diff(String previousText, List<String> previousHashes, String currentText) {
+        List<Section> previous = split(previousText);
+        Set<String> previousSet = new HashSet<>(previousHashes == null || previousHashes.isEmpty()
+                ? hashes(previousText)
+                : previousHashes);
+
+        List<Section> changed = new ArrayList<>();
+        Set<String> changedHeadings = new HashSet<>();
+        Set<String> currentSet = new HashSet<>();
+        int changedChars = 0;
+        int totalChars = 0;
+        for (Section section : split(currentText)) {
+            String hash = section.hash();
+            currentSet.add(hash);
+            totalChars += section.text().length();
+            if (!previousSet.contains(hash)) {
+                changed.add(section);
+                changedHeadings.add(section.heading());
+                changedChars += section.text().length();
+            }
+        }
+
+        // Edited sections come back under the same heading, only headings that are gone count as removed
+        List<String> removed = new ArrayList<>();
+        for (Section section : previous) {
+            if (!currentSet.contains(section.hash()) && !changedHeadings.contains(section.heading())) {
+                removed.add(section.heading().isEmpty() ? "(header)" : section.heading());
+            }
+        }
+        return new Diff(changed, removed, changedChars, totalChars);
+    }
+
+    static boolean isHeading(String line) {
+        if (line.isEmpty() || line.length() > MAX_HEADING_LENGTH) {
+            return false;
+        }
+        String key = line.toLowerCase(Locale.ROOT).replaceAll("[:\\s]+$", "");
+        if (HEADINGS.contains(key)) {
+            return true;
+        }
+        boolean letters = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (Character.isLowerCase(c)) {
+                return false;
+            }
+            letters |= Character.isLetter(c);
+        }
+        return letters && line.split("\\s+").length <= 4;
+    }
+}
@@ -2,12 +2,12 @@ package com.resume.analyzer.service;
 
 import com.resume.analyzer.dto.JobDescriptionRequest;
 import com.resume.analyzer.dto.ResumeAnalysisResponse;
+import com.resume.analyzer.dto.ResumePageResponse;
 import com.resume.analyzer.dto.ResumeResponse;
 import com.resume.analyzer.model.Resume;
 import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface ResumeService {
@@ -15,7 +15,7 @@ public interface ResumeService {
 
     ResumeResponse getResumeById(UUID id);
 
-    List<ResumeResponse> getResumesByUser();
+    ResumePageResponse getResumesByUser(String cursor, int limit);
 
     ResumeAnalysisResponse analyzeResumeWithAI(UUID resumeId, JobDescriptionRequest jobDescriptionRequest);
 
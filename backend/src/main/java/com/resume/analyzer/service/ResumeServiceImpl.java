@@ -1,9 +1,15 @@
 package com.resume.analyzer.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.analyzer.config.ResumeUploadProperties;
+import com.resume.analyzer.config.SpeculativeAnalysisProperties;
+import com.resume.analyzer.config.StructuredAnalysisProperties;
+import com.resume.analyzer.dto.CreateAnalysisRequest;
 import com.resume.analyzer.dto.JobDescriptionRequest;
 import com.resume.analyzer.dto.ResumeAnalysisResponse;
+import com.resume.analyzer.dto.ResumePageResponse;
 import com.resume.analyzer.dto.ResumeResponse;
+import com.resume.analyzer.dto.ResumeSummaryResponse;
+import com.resume.analyzer.dto.StructuredAnalysisResponse;
 import com.resume.analyzer.exception.ResumeAnalyzeException;
 import com.resume.analyzer.exception.ResumeUploadException;
 import com.resume.analyzer.model.Resume;
@@ -11,31 +17,95 @@ import com.resume.analyzer.model.User;
 import com.resume.analyzer.repository.ResumeRepository;
 import com.resume.analyzer.repository.UserRepository;
 import com.resume.analyzer.security.SecurityUtil;
-import jakarta.transaction.Transactional;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
-import org.springframework.ai.chat.model.ChatModel;
+import com.resume.analyzer.storage.ResumeBlobStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.ai.converter.BeanOutputConverter;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Service
 public class ResumeServiceImpl implements ResumeService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ResumeRepository resumeRepository;
     private final UserRepository userRepository;
-    private final ChatModel chatModel;
+    private final LlmClient llmClient;
+    private final AnalysisCache analysisCache;
+    private final ContentClassifier contentClassifier;
+    private final ExecutorService llmExecutor;
+    private final SpeculativeAnalysisProperties speculativeProperties;
+    private final MeterRegistry meterRegistry;
+    private final ResumeBlobStore resumeBlobStore;
+    private final TextVectorizer textVectorizer;
+    private final ResumeIndex resumeIndex;
+    private final PdfTextExtractor pdfTextExtractor;
+    private final ResumeUploadProperties uploadProperties;
+    private final AiResponseParser aiResponseParser;
+    private final ObservationRegistry observationRegistry;
+    private final AnalysisCoalescer analysisCoalescer;
+    private final PromptCompactor promptCompactor;
+    private final StructuredAnalysisProperties structuredAnalysisProperties;
+    private final ResumeVersioning resumeVersioning;
+    private final JobDescriptionService jobDescriptionService;
+    private final MatchingService matchingService;
+    private final AnalysisService analysisService;
+    private final BeanOutputConverter<StructuredAnalysisResponse> structuredOutput =
+            new BeanOutputConverter<>(StructuredAnalysisResponse.class);
 
-    public ResumeServiceImpl(ResumeRepository resumeRepository, UserRepository userRepository, ChatModel chatModel) {
+    public ResumeServiceImpl(ResumeRepository resumeRepository, UserRepository userRepository, LlmClient llmClient,
+                             AnalysisCache analysisCache, ContentClassifier contentClassifier,
+                             @Qualifier("llmExecutor") ExecutorService llmExecutor,
+                             SpeculativeAnalysisProperties speculativeProperties, MeterRegistry meterRegistry,
+                             ResumeBlobStore resumeBlobStore, TextVectorizer textVectorizer, ResumeIndex resumeIndex,
+                             PdfTextExtractor pdfTextExtractor, ResumeUploadProperties uploadProperties,
+                             AiResponseParser aiResponseParser, ObservationRegistry observationRegistry,
+                             AnalysisCoalescer analysisCoalescer, PromptCompactor promptCompactor,
+                             StructuredAnalysisProperties structuredAnalysisProperties,
+                             ResumeVersioning resumeVersioning, JobDescriptionService jobDescriptionService,
+                             MatchingService matchingService, AnalysisService analysisService) {
         this.resumeRepository = resumeRepository;
         this.userRepository = userRepository;
-        this.chatModel = chatModel;
+        this.llmClient = llmClient;
+        this.analysisCache = analysisCache;
+        this.contentClassifier = contentClassifier;
+        this.llmExecutor = llmExecutor;
+        this.speculativeProperties = speculativeProperties;
+        this.meterRegistry = meterRegistry;
+        this.resumeBlobStore = resumeBlobStore;
+        this.textVectorizer = textVectorizer;
+        this.resumeIndex = resumeIndex;
+        this.pdfTextExtractor = pdfTextExtractor;
+        this.uploadProperties = uploadProperties;
+        this.aiResponseParser = aiResponseParser;
+        this.observationRegistry = observationRegistry;
+        this.analysisCoalescer = analysisCoalescer;
+        this.promptCompactor = promptCompactor;
+        this.structuredAnalysisProperties = structuredAnalysisProperties;
+        this.resumeVersioning = resumeVersioning;
+        this.jobDescriptionService = jobDescriptionService;
+        this.matchingService = matchingService;
+        this.analysisService = analysisService;
     }
 
     @Override
@@ -43,12 +113,22 @@ public class ResumeServiceImpl implements ResumeService {
         if (file.isEmpty()) {
             throw new ResumeUploadException("Please upload a valid PDF file.");
         }
+        // The multipart limit is sized for batch archives, single files keep the per-PDF limit
+        if (file.getSize() > uploadProperties.getMaxFileSize().toBytes()) {
+            throw new MaxUploadSizeExceededException(uploadProperties.getMaxFileSize().toBytes());
+        }
 
         UUID userId = SecurityUtil.getCurrentUserId();
         User user = getUserById(userId);
 
         Resume resume = buildResume(file, user);
-        resume = resumeRepository.save(resume);
+        try {
+            resume = resumeRepository.save(resume);
+        } catch (RuntimeException e) {
+            resumeBlobStore.delete(resume.getStorageKey());
+            throw e;
+        }
+        resumeIndex.add(resume.getId(), user.getId(), resume.getParsedText());
 
         return buildResumeResponse(resume, user);
     }
@@ -69,32 +149,81 @@ public class ResumeServiceImpl implements ResumeService {
     }
 
     @Override
-    @Transactional
-    public List<ResumeResponse> getResumesByUser() {
+    public ResumePageResponse getResumesByUser(String cursor, int limit) {
         UUID userId = SecurityUtil.getCurrentUserId();
-        List<Resume> resumes = resumeRepository.findByUserId(userId);
-        List<ResumeResponse> resumeResponse = resumes.stream().map(resume -> {;
-            User user = resume.getUser();
-            return buildResumeResponse(resume, user);
-        }).toList();
+        Pageable page = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
 
-        return resumeResponse;
+        List<ResumeSummaryResponse> resumes;
+        if (cursor == null || cursor.isBlank()) {
+            resumes = resumeRepository.findSummariesByUserId(userId, page);
+        } else {
+            ResumeCursor after = ResumeCursor.decode(cursor);
+            resumes = resumeRepository.findSummariesByUserIdAfter(userId, after.uploadedAt(), after.id(), page);
+        }
+
+        String nextCursor = null;
+        if (resumes.size() == page.getPageSize()) {
+            ResumeSummaryResponse last = resumes.get(resumes.size() - 1);
+            nextCursor = new ResumeCursor(last.getUploadedAt(), last.getId()).encode();
+        }
+        return new ResumePageResponse(resumes, nextCursor);
     }
 
     @Override
     public ResumeAnalysisResponse analyzeResumeWithAI(UUID resumeId, JobDescriptionRequest jobDescriptionRequest) {
-        String jobDescription = jobDescriptionRequest.getJobDescription().replace("\"", "");
-        checkIfJobDescriptionIsValid(jobDescription);
+        Observation observation = Observation.createNotStarted("resume.analysis", observationRegistry);
+        return observation.observe(() -> analyze(resumeId, jobDescriptionRequest, observation));
+    }
+
+    private ResumeAnalysisResponse analyze(UUID resumeId, JobDescriptionRequest jobDescriptionRequest, Observation observation) {
+        String jobDescription = jobDescriptionService.textOf(jobDescriptionRequest).replace("\"", "");
         Resume resume = resumeRepository.findById(resumeId)
                 .orElseThrow(() -> new RuntimeException("Resume not found"));
-        String analyzedText = chatModel.call(getAiPromptJson(jobDescription, resume.getParsedText()));
-        resumeRepository.save(resume);
-        return parseAiResponse(analyzedText);
+
+        String cacheKey = analysisCache.keyFor(resume.getParsedText(), jobDescription);
+        Optional<ResumeAnalysisResponse> cached = analysisCache.get(cacheKey);
+        observation.lowCardinalityKeyValue("cache", cached.isPresent() ? "hit" : "miss");
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        // Saved analyses were checked above, a leader that finished meanwhile left its result in memory
+        return analysisCoalescer.coalesce(cacheKey, () -> analysisCache.peek(cacheKey).orElseGet(() -> {
+            Optional<ResumeVersioning.Delta> delta = resumeVersioning.reanalyze(resume, jobDescription);
+            ResumeAnalysisResponse response;
+            if (delta.isPresent()) {
+                response = delta.get().analysis();
+            } else if (structuredAnalysisProperties.isEnabled()) {
+                response = analyzeStructured(jobDescription, resume.getParsedText());
+                resumeVersioning.markVerified(resume);
+            } else {
+                String analyzedText = speculativeProperties.isEnabled()
+                        ? analyzeSpeculatively(jobDescription, resume.getParsedText())
+                        : analyzeSequentially(jobDescription, resume.getParsedText());
+                response = aiResponseParser.parse(analyzedText);
+            }
+            // Saved with its cache key so the result outlives the in-memory tier
+            CreateAnalysisRequest result = new CreateAnalysisRequest(resumeId, jobDescriptionRequest.getJobDescription(),
+                    jobDescriptionRequest.getJobDescriptionId(), response);
+            if (delta.isPresent()) {
+                analysisService.saveDeltaAnalysis(result, delta.get().baseVersionId());
+            } else {
+                analysisService.saveModelAnalysis(result);
+            }
+            return response;
+        }));
     }
 
     @Override
     public void deleteResume(UUID id) {
-        resumeRepository.deleteById(id);
+        resumeRepository.findById(id).ifPresent(resume -> {
+            resumeRepository.delete(resume);
+            resumeIndex.remove(id);
+            matchingService.evictResume(id);
+            if (resume.getStorageKey() != null) {
+                resumeBlobStore.delete(resume.getStorageKey());
+            }
+        });
     }
 
     @Override
@@ -106,39 +235,134 @@ public class ResumeServiceImpl implements ResumeService {
             throw new RuntimeException("File is not a PDF");
         }
 
-        return new ByteArrayResource(resume.getFileData());
+        if (resume.getStorageKey() == null) {
+            return new ByteArrayResource(resume.getFileData());
+        }
+        return resumeBlobStore.load(resume.getStorageKey(), resume.getFileSize());
+    }
+
+    private String analyzeSequentially(String jobDescription, String resumeText) {
+        checkIfJobDescriptionIsValid(jobDescription);
+        return llmClient.call(PromptKind.ANALYSIS, promptCompactor.analysisPrompt(jobDescription, resumeText));
+    }
+
+    /**
+     * Validates both texts and analyzes them in one model call. Only clear rejections are settled locally first.
+     */
+    private ResumeAnalysisResponse analyzeStructured(String jobDescription, String resumeText) {
+        checkIfJobDescriptionIsValid(jobDescription);
+        String answer = llmClient.call(PromptKind.ANALYSIS,
+                promptCompactor.structuredAnalysisPrompt(jobDescription, resumeText, structuredOutput.getFormat()));
+
+        StructuredAnalysisResponse structured;
+        try {
+            structured = structuredOutput.convert(TextNormalizer.stripCodeFence(answer.strip()));
+        } catch (RuntimeException e) {
+            structured = null;
+        }
+        // Without both checks the answer can't vouch for its inputs, fail instead of caching an unchecked result
+        if (structured == null || structured.getResumeValid() == null || structured.getJobDescriptionValid() == null) {
+            meterRegistry.counter("analysis.structured", "outcome", "mismatch").increment();
+            throw new ResumeAnalyzeException("Failed to parse AI response");
+        }
+        if (!structured.getResumeValid()) {
+            meterRegistry.counter("analysis.structured", "outcome", "invalid-resume").increment();
+            throw new ResumeAnalyzeException("The uploaded file is not a valid resume or CV.");
+        }
+        if (!structured.getJobDescriptionValid()) {
+            meterRegistry.counter("analysis.structured", "outcome", "invalid-job-description").increment();
+            jobDescriptionService.reject(jobDescription);
+            throw new ResumeAnalyzeException("The provided job description is not valid.");
+        }
+        jobDescriptionService.confirm(jobDescription);
+        meterRegistry.counter("analysis.structured", "outcome", "used").increment();
+        return structured.toAnalysis();
+    }
+
+    /**
+     * Starts the analysis while the job description is still being validated and discards it if validation fails.
+     * Only worth it when validation needs the model; stored, cached and heuristic verdicts are checked first.
+     */
+    private String analyzeSpeculatively(String jobDescription, String resumeText) {
+        if (jobDescriptionService.isSettled(jobDescription)) {
+            meterRegistry.counter("analysis.speculative", "outcome", "skipped").increment();
+            return analyzeSequentially(jobDescription, resumeText);
+        }
+        Future<String> analysis = llmExecutor.submit(() -> llmClient.call(PromptKind.ANALYSIS, promptCompactor.analysisPrompt(jobDescription, resumeText)));
+        Future<Boolean> validation = llmExecutor.submit(() -> Boolean.TRUE.equals(jobDescriptionService.resolve(jobDescription).getValid()));
+
+        boolean valid;
+        try {
+            valid = await(validation, speculativeProperties.getValidationTimeout());
+        } catch (RuntimeException e) {
+            analysis.cancel(true);
+            throw e;
+        }
+
+        if (!valid) {
+            analysis.cancel(true);
+            meterRegistry.counter("analysis.speculative", "outcome", "wasted").increment();
+            throw new ResumeAnalyzeException("The provided job description is not valid.");
+        }
+        meterRegistry.counter("analysis.speculative", "outcome", "used").increment();
+        return await(analysis, speculativeProperties.getAnalysisTimeout());
+    }
+
+    private <T> T await(Future<T> future, Duration timeout) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ResumeAnalyzeException("The AI service did not respond in time.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ResumeAnalyzeException("Resume analysis was interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ResumeAnalyzeException("Resume analysis failed.", e.getCause());
+        }
     }
 
+    /**
+     * Job descriptions are validated once when first stored. With structured analysis they are only screened and
+     * stay pending, the structured answer then decides.
+     */
     private void checkIfJobDescriptionIsValid(String jobDescription) {
-        String aiPrompt = getCheckIfValidJobDescriptionAiPrompt(jobDescription);
-        String aiResponse = chatModel.call(aiPrompt);
-        if (aiResponse.equalsIgnoreCase("No")) {
+        if (Boolean.FALSE.equals(jobDescriptionService.resolve(jobDescription).getValid())) {
             throw new ResumeAnalyzeException("The provided job description is not valid.");
         }
     }
 
     private Resume buildResume(MultipartFile file, User user) {
         String parsedText = extractTextFromFile(file);
-        checkIfResume(parsedText);
         Resume resume = new Resume();
         resume.setFileName(file.getOriginalFilename());
         resume.setFileType(file.getContentType());
         resume.setParsedText(parsedText);
+        // A small edit of a confirmed resume doesn't need to be classified again
+        if (!resumeVersioning.assignVersion(resume, user.getId())) {
+            checkIfResume(resume);
+        }
+        resume.setEmbedding(textVectorizer.vectorize(parsedText));
         resume.setUser(user);
-        try {
-            resume.setFileData(file.getBytes());
+        resume.setFileSize(file.getSize());
+        try (InputStream inputStream = file.getInputStream()) {
+            resume.setStorageKey(resumeBlobStore.store(inputStream, file.getSize()));
         } catch (IOException e) {
             throw new ResumeUploadException("Could not store file data");
         }
         return resume;
     }
 
-    private void checkIfResume(String parsedText) {
-        String aiPrompt = getCheckIfResumeAiPrompt(parsedText);
-        String aiResponse = chatModel.call(aiPrompt);
-        if (aiResponse.equalsIgnoreCase("No")) {
+    private void checkIfResume(Resume resume) {
+        ContentClassifier.Check check = contentClassifier.checkResume(resume.getParsedText());
+        if (check == ContentClassifier.Check.REJECTED) {
             throw new ResumeAnalyzeException("The uploaded file is not a valid resume or CV.");
         }
+        resume.setModelVerified(check == ContentClassifier.Check.CONFIRMED);
     }
 
     private ResumeResponse buildResumeResponse(Resume resume, User user) {
@@ -148,7 +372,9 @@ public class ResumeServiceImpl implements ResumeService {
                 resume.getFileType(),
                 resume.getParsedText(),
                 user.getId(),
-                resume.getUploadedAt()
+                resume.getUploadedAt(),
+                resume.getVersion(),
+                resume.getPreviousVersionId()
         );
     }
 
@@ -157,100 +383,10 @@ public class ResumeServiceImpl implements ResumeService {
             throw new ResumeUploadException("Please upload a valid PDF file.");
         }
 
-        try (InputStream inputStream = file.getInputStream(); PDDocument document = PDDocument.load(inputStream)) {
-            if (document.isEncrypted()) {
-                throw new ResumeUploadException("The PDF file is encrypted and cannot be read.");
-            }
-
-            PDFTextStripper pdfStripper = new PDFTextStripper();
-            String text = pdfStripper.getText(document);
-            text = text
-                    .replace("\\r\\n", "\n")
-                    .replace("\\n", "\n")
-                    .replace("\\t", "\t")
-                    .replace("\"","");
-            return text.trim();
+        try (InputStream inputStream = file.getInputStream()) {
+            return pdfTextExtractor.extract(inputStream);
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw new ResumeUploadException("The PDF file could not be read.", e);
         }
     }
-
-    private ResumeAnalysisResponse parseAiResponse(String aiResponse) {
-        ObjectMapper objectMapper = new ObjectMapper();
-
-        try {
-            if (aiResponse.startsWith("```")) {
-                aiResponse = aiResponse.replaceAll("(?s)^```(?:json)?\\s*", "") // remove starting ```
-                        .replaceAll("\\s*```$", "");             // remove ending ```
-            }
-
-            return objectMapper.readValue(aiResponse, ResumeAnalysisResponse.class);
-        } catch (Exception e) {
-            throw new ResumeAnalyzeException("Failed to parse AI response", e);
-        }
-    }
-
-    private String getCheckIfResumeAiPrompt(String resumeText) {
-        return String.format("""
-                Given the following text, determine whether it is a resume or CV. If it is a resume or CV, respond with 'Yes.' If it is not, respond with 'No.'
-                
-                Text: %s"
-                
-                Reply with only 'Yes' or 'No' and don't add any other text and don't add any punctuation.
-                """, resumeText);
-    }
-
-    private String getCheckIfValidJobDescriptionAiPrompt(String jobDescription) {
-        return String.format("""
-                Given the following text, determine whether it is a valid Job Description. If it is a valid Job Description, respond with 'Yes.' If it is not, respond with 'No.'
-                
-                Text: %s"
-                
-                Reply with only 'Yes' or 'No' and don't add any other text and don't add any punctuation.
-                """, jobDescription);
-    }
-
-    private String getAiPromptJson(String jobDescription, String resumeText) {
-        return String.format("""
-{
-   "request": "Analyze the resume against the provided job description and generate the following information. Avoid using personal names or identifiers in the output. Provide the response in a structured JSON format as outlined below.",
-   "input_data": {
-     "job_description": "%s",
-     "resume": "%s"
-   },
-   "output_format": {
-     "MatchScore": "Provide a score indicating how well the resume aligns with the job description (out of 100).",
-     "KeyStrengths": [
-       "List the candidate's key strengths that match the job description, focusing on technical skills, relevant experience, and accomplishments."
-     ],
-     "SkillsGap": [
-       "Identify any significant skills or qualifications mentioned in the job description that are missing or underrepresented in the resume."
-     ],
-     "SuggestionsForImprovement": [
-       "Offer actionable suggestions for improving the resume, such as adding missing skills, highlighting specific achievements, or clarifying technical expertise."
-     ],
-     "OverallAssessment": "Provide a brief summary of how the resume matches the job description, focusing on the candidate's strengths, areas for improvement, and potential adjustments to increase alignment with the job requirements."
-   },
-   "response_format": {
-     "MatchScore": "[score]",
-     "KeyStrengths": [
-       "Strength 1",
-       "Strength 2",
-       "Strength 3"
-     ],
-     "SkillsGap": [
-       "Gap 1",
-       "Gap 2",
-       "Gap 3"
-     ],
-     "SuggestionsForImprovement": [
-       "Improvement suggestion 1",
-       "Improvement suggestion 2",
-       "Improvement suggestion 3"
-     ],
-     "OverallAssessment": "Summary of alignment with the job description, strengths, and areas for improvement."
-   }
- }
-    """, jobDescription, resumeText);
-    }
 }
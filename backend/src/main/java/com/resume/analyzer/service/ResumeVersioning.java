@@ -0,0 +1,197 @@
+package com.resume.analyzer.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.analyzer.config.ResumeVersioningProperties;
+import com.resume.analyzer.dto.ResumeAnalysisResponse;
+import com.resume.analyzer.model.Analysis;
+import com.resume.analyzer.model.Resume;
+import com.resume.analyzer.repository.AnalysisRepository;
+import com.resume.analyzer.repository.ResumeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Links re-uploads of a resume to its previous version and re-analyzes small edits from the previous result.
+ * An upload is a new version when the user's latest resume with the same file name shares most of its sections.
+ * When only a small part changed since the last version the model confirmed as a resume, the upload skips the
+ * classifier. Analyses send just the sections changed since the last fully analyzed version together with that
+ * version's analysis for the same job description, so a chain of small edits can't drift from it either.
+ */
+@Component
+public class ResumeVersioning {
+
+    /**
+     * An analysis updated from the full analysis of {@code baseVersionId}.
+     */
+    public record Delta(ResumeAnalysisResponse analysis, UUID baseVersionId) {
+    }
+
+    private final ResumeRepository resumeRepository;
+    private final AnalysisRepository analysisRepository;
+    private final AnalysisCache analysisCache;
+    private final LlmClient llmClient;
+    private final AiResponseParser aiResponseParser;
+    private final PromptCompactor promptCompactor;
+    private final ObjectMapper objectMapper;
+    private final ResumeVersioningProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public ResumeVersioning(ResumeRepository resumeRepository, AnalysisRepository analysisRepository,
+                            AnalysisCache analysisCache, LlmClient llmClient,
+                            AiResponseParser aiResponseParser, PromptCompactor promptCompactor,
+                            ObjectMapper objectMapper, ResumeVersioningProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.resumeRepository = resumeRepository;
+        this.analysisRepository = analysisRepository;
+        this.analysisCache = analysisCache;
+        this.llmClient = llmClient;
+        this.aiResponseParser = aiResponseParser;
+        this.promptCompactor = promptCompactor;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Sets the section hashes and version of a new upload. Returns true when it is a small edit of a version the
+     * model already confirmed, so it doesn't have to be classified again. The change is measured against that
+     * version rather than the previous one, so a chain of small unchecked edits can't add up unnoticed.
+     */
+    public boolean assignVersion(Resume resume, UUID userId) {
+        resume.setSectionHashes(ResumeSections.hashes(resume.getParsedText()));
+        resume.setVersion(1);
+        if (!properties.isEnabled() || resume.getFileName() == null) {
+            return false;
+        }
+
+        Optional<Resume> latest = resumeRepository.findFirstByUserIdAndFileNameOrderByUploadedAtDesc(userId, resume.getFileName());
+        if (latest.isEmpty()) {
+            record("resume.versioning", "new");
+            return false;
+        }
+        Resume previous = latest.get();
+        ResumeSections.Diff diff = ResumeSections.diff(previous.getParsedText(), previous.getSectionHashes(), resume.getParsedText());
+        if (1 - diff.changedShare() < properties.getMinUnchangedShare()) {
+            record("resume.versioning", "replaced");
+            return false;
+        }
+
+        resume.setPreviousVersionId(previous.getId());
+        resume.setVersion(previous.getVersion() == null ? 2 : previous.getVersion() + 1);
+        record("resume.versioning", "versioned");
+
+        Optional<Resume> verified = lastVerified(previous);
+        if (verified.isEmpty()) {
+            return false;
+        }
+        resume.setVerifiedVersionId(verified.get().getId());
+        ResumeSections.Diff sinceVerified = verified.get() == previous
+                ? diff
+                : ResumeSections.diff(verified.get().getParsedText(), verified.get().getSectionHashes(), resume.getParsedText());
+        return sinceVerified.changedShare() <= properties.getMaxDeltaShare();
+    }
+
+    /**
+     * Records that the resume passed a model check, which makes it the base for the next versions' skip decision.
+     */
+    public void markVerified(Resume resume) {
+        if (!Boolean.TRUE.equals(resume.getModelVerified())) {
+            resumeRepository.markModelVerified(resume.getId());
+            resume.setModelVerified(true);
+        }
+    }
+
+    private Optional<Resume> lastVerified(Resume previous) {
+        if (Boolean.TRUE.equals(previous.getModelVerified())) {
+            return Optional.of(previous);
+        }
+        if (previous.getVerifiedVersionId() == null) {
+            return Optional.empty();
+        }
+        return resumeRepository.findById(previous.getVerifiedVersionId())
+                .filter(resume -> Boolean.TRUE.equals(resume.getModelVerified()));
+    }
+
+    /**
+     * Analyzes an edited resume by updating the full analysis of an earlier version for the same job description.
+     * That is the previous version when its analysis was full, otherwise the version its delta was based on.
+     * Empty when there is no such analysis or too much of the resume changed since for a delta to be reliable.
+     */
+    public Optional<Delta> reanalyze(Resume resume, String jobDescription) {
+        if (!properties.isEnabled() || resume.getPreviousVersionId() == null) {
+            return Optional.empty();
+        }
+        Optional<Resume> previous = resumeRepository.findById(resume.getPreviousVersionId());
+        if (previous.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<Analysis> previousAnalysis = savedAnalysis(previous.get(), jobDescription);
+        if (previousAnalysis.isEmpty()) {
+            record("analysis.delta", "no-previous-analysis");
+            return Optional.empty();
+        }
+
+        Resume base = previous.get();
+        Analysis baseAnalysis = previousAnalysis.get();
+        if (baseAnalysis.getDeltaBaseId() != null) {
+            Optional<Resume> deltaBase = resumeRepository.findById(baseAnalysis.getDeltaBaseId());
+            Optional<Analysis> fullAnalysis = deltaBase.flatMap(version -> savedAnalysis(version, jobDescription))
+                    .filter(analysis -> analysis.getDeltaBaseId() == null);
+            if (fullAnalysis.isEmpty()) {
+                record("analysis.delta", "no-full-analysis");
+                return Optional.empty();
+            }
+            base = deltaBase.get();
+            baseAnalysis = fullAnalysis.get();
+        }
+
+        ResumeSections.Diff diff = ResumeSections.diff(base.getParsedText(), base.getSectionHashes(), resume.getParsedText());
+        if (diff.unchanged()) {
+            record("analysis.delta", "unchanged");
+            return Optional.of(new Delta(baseAnalysis.getAiSummary(), base.getId()));
+        }
+        if (diff.changedShare() > properties.getMaxDeltaShare()) {
+            record("analysis.delta", "too-large");
+            return Optional.empty();
+        }
+
+        String prompt = promptCompactor.deltaAnalysisPrompt(jobDescription, toJson(baseAnalysis.getAiSummary()),
+                changedText(diff.changed()), String.join(", ", diff.removed()));
+        ResumeAnalysisResponse response = aiResponseParser.parse(llmClient.call(PromptKind.ANALYSIS, prompt));
+        record("analysis.delta", "used");
+        return Optional.of(new Delta(response, base.getId()));
+    }
+
+    private Optional<Analysis> savedAnalysis(Resume version, String jobDescription) {
+        return analysisRepository.findFirstByCacheKeyOrderByAnalyzedAtDesc(
+                analysisCache.keyFor(version.getParsedText(), jobDescription));
+    }
+
+    private static String changedText(List<ResumeSections.Section> sections) {
+        StringBuilder out = new StringBuilder();
+        for (ResumeSections.Section section : sections) {
+            if (!out.isEmpty()) {
+                out.append("\n\n");
+            }
+            out.append(section.text());
+        }
+        return out.toString();
+    }
+
+    private String toJson(ResumeAnalysisResponse analysis) {
+        try {
+            return objectMapper.writeValueAsString(analysis);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not write previous analysis", e);
+        }
+    }
+
+    private void record(String name, String outcome) {
+        meterRegistry.counter(name, "outcome", outcome).increment();
+    }
+}
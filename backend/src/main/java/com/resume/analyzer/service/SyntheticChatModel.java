@@ -0,0 +1,245 @@
+package com.resume.analyzer.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.resume.analyzer.config.SyntheticChatModelProperties;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Local stand-in for the chat model. Answers are deterministic per prompt: either replayed from recorded
+ * responses or synthesized in the shape each prompt asks for. Latency follows a log-normal distribution set by
+ * its median and p99, and a configurable share of calls fails with a 5xx or a 429.
+ * <p>
+ * Recorded responses are files in {@code llm.synthetic.recordings-directory} whose names start with the prompt
+ * type, e.g. {@code analysis-1.json}, {@code structured-analysis-senior.json} or {@code resume-check-1.txt}.
+ */
+public class SyntheticChatModel implements ChatModel {
+
+    private static final double Z_99 = 2.326;
+
+    enum PromptType {
+        STRUCTURED_ANALYSIS("structured-analysis"),
+        ANALYSIS("analysis"),
+        RESUME_CHECK("resume-check"),
+        JOB_DESCRIPTION_CHECK("job-description-check"),
+        AD_HOC("ad-hoc");
+
+        private final String prefix;
+
+        PromptType(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    private static final List<String> STRENGTHS = List.of(
+            "Solid backend experience with Java and Spring Boot",
+            "Has designed and operated relational databases in production",
+            "Track record of delivering features end to end",
+            "Experience with cloud deployments and CI/CD pipelines",
+            "Clear, quantified achievements in recent roles"
+    );
+    private static final List<String> GAPS = List.of(
+            "No mention of Kubernetes or container orchestration",
+            "Limited evidence of frontend work",
+            "No experience with message brokers such as Kafka",
+            "Security and compliance experience is not described"
+    );
+    private static final List<String> SUGGESTIONS = List.of(
+            "Quantify the impact of recent projects",
+            "List the cloud services used in each role",
+            "Move the skills section above education",
+            "Describe the size of the teams and systems you worked on"
+    );
+
+    private final SyntheticChatModelProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<PromptType, List<String>> recordings;
+
+    public SyntheticChatModel(SyntheticChatModelProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.recordings = loadRecordings(properties.getRecordingsDirectory());
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        String text = prompt.getContents();
+        Duration latency = sampleLatency();
+        sleep(latency);
+        failRandomly();
+        return response(text, answer(text));
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        String text = prompt.getContents();
+        String answer = answer(text);
+        int chunkSize = Math.max(1, properties.getStreamChunkSize());
+        List<String> chunks = new ArrayList<>();
+        for (int i = 0; i < answer.length(); i += chunkSize) {
+            chunks.add(answer.substring(i, Math.min(answer.length(), i + chunkSize)));
+        }
+
+        // A fifth of the sampled latency goes to the first token, the rest is spread over the chunks
+        Duration latency = sampleLatency();
+        Duration firstToken = latency.dividedBy(5);
+        Duration perChunk = latency.minus(firstToken).dividedBy(Math.max(1, chunks.size()));
+        return Flux.defer(() -> {
+                    failRandomly();
+                    return Flux.fromIterable(chunks);
+                })
+                .delaySubscription(firstToken)
+                .delayElements(perChunk)
+                .map(chunk -> response(text, chunk));
+    }
+
+    String answer(String prompt) {
+        PromptType type = typeOf(prompt);
+        int seed = prompt.hashCode();
+        List<String> recorded = recordings.get(type);
+        if (recorded != null && !recorded.isEmpty()) {
+            return recorded.get(Math.floorMod(seed, recorded.size()));
+        }
+        return switch (type) {
+            case RESUME_CHECK, JOB_DESCRIPTION_CHECK -> "Yes";
+            case ANALYSIS -> synthesizeAnalysis(new Random(seed), false);
+            case STRUCTURED_ANALYSIS -> synthesizeAnalysis(new Random(seed), true);
+            case AD_HOC -> "This is a synthetic response.";
+        };
+    }
+
+    static PromptType typeOf(String prompt) {
+        if (prompt.contains("ResumeValid")) {
+            return PromptType.STRUCTURED_ANALYSIS;
+        }
+        if (prompt.contains("\"output_format\"")) {
+            return PromptType.ANALYSIS;
+        }
+        if (prompt.contains("whether it is a resume")) {
+            return PromptType.RESUME_CHECK;
+        }
+        if (prompt.contains("whether it is a valid Job Description")) {
+            return PromptType.JOB_DESCRIPTION_CHECK;
+        }
+        return PromptType.AD_HOC;
+    }
+
+    private String synthesizeAnalysis(Random random, boolean structured) {
+        ObjectNode node = objectMapper.createObjectNode();
+        if (structured) {
+            node.put("ResumeValid", true);
+            node.put("JobDescriptionValid", true);
+        }
+        node.put("MatchScore", 35 + random.nextInt(61));
+        pick(node.putArray("KeyStrengths")::add, STRENGTHS, random);
+        pick(node.putArray("SkillsGap")::add, GAPS, random);
+        pick(node.putArray("SuggestionsForImprovement")::add, SUGGESTIONS, random);
+        node.put("OverallAssessment", "The candidate covers most of the core requirements; closing the listed gaps would strengthen the application.");
+        try {
+            return objectMapper.writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not write synthetic analysis", e);
+        }
+    }
+
+    private static void pick(Consumer<String> target, List<String> values, Random random) {
+        int count = 2 + random.nextInt(values.size() - 1);
+        int offset = random.nextInt(values.size());
+        for (int i = 0; i < count; i++) {
+            target.accept(values.get((offset + i) % values.size()));
+        }
+    }
+
+    private ChatResponse response(String prompt, String answer) {
+        DefaultUsage usage = new DefaultUsage(prompt.length() / LlmGovernor.CHARS_PER_TOKEN,
+                answer.length() / LlmGovernor.CHARS_PER_TOKEN);
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(answer))),
+                ChatResponseMetadata.builder().usage(usage).build());
+    }
+
+    /**
+     * Log-normal with the configured median, its spread chosen so that 99% of samples fall below the p99.
+     */
+    private Duration sampleLatency() {
+        double median = Math.max(1, properties.getLatencyMedian().toMillis());
+        double p99 = Math.max(median, properties.getLatencyP99().toMillis());
+        double sigma = Math.log(p99 / median) / Z_99;
+        double millis = median * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian());
+        return Duration.ofMillis((long) Math.min(millis, p99 * 10));
+    }
+
+    private void failRandomly() {
+        double roll = ThreadLocalRandom.current().nextDouble();
+        if (roll < properties.getRateLimitRate()) {
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8);
+        }
+        if (roll < properties.getRateLimitRate() + properties.getErrorRate()) {
+            throw HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "Synthetic model failure", HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void sleep(Duration latency) {
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Synthetic model call was interrupted", e);
+        }
+    }
+
+    private static Map<PromptType, List<String>> loadRecordings(String directory) {
+        Map<PromptType, List<String>> recordings = new EnumMap<>(PromptType.class);
+        if (directory == null || directory.isBlank()) {
+            return recordings;
+        }
+        try (Stream<Path> files = Files.list(Path.of(directory))) {
+            for (Path file : files.sorted().toList()) {
+                String name = file.getFileName().toString();
+                PromptType type = recordedType(name);
+                if (type != null && Files.isRegularFile(file)) {
+                    recordings.computeIfAbsent(type, key -> new ArrayList<>())
+                            .add(Files.readString(file, StandardCharsets.UTF_8));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read recorded model responses from " + directory, e);
+        }
+        return recordings;
+    }
+
+    private static PromptType recordedType(String fileName) {
+        for (PromptType type : PromptType.values()) {
+            if (fileName.startsWith(type.prefix + "-") || fileName.startsWith(type.prefix + ".")) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
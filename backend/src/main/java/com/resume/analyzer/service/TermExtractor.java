@@ -0,0 +1,48 @@
+package com.resume.analyzer.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Splits text into lower-cased terms for local scoring. Keeps '+' and '#' so skills like C++ and C# survive,
+ * and drops stop words and filler that appears in nearly every resume or job description.
+ */
+public final class TermExtractor {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "is", "it", "its",
+            "of", "on", "or", "our", "that", "the", "their", "this", "to", "was", "we", "were", "will", "with",
+            "you", "your", "i", "my", "me", "he", "she", "they", "them", "us", "who", "which", "also", "etc",
+            "responsible", "work", "working", "experience", "years", "year", "team", "role", "job", "using"
+    );
+
+    private TermExtractor() {
+    }
+
+    public static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        StringBuilder token = new StringBuilder(32);
+        for (int i = 0, length = text.length(); i <= length; i++) {
+            char c = i < length ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#') {
+                token.append(Character.toLowerCase(c));
+                continue;
+            }
+            if (token.isEmpty()) {
+                continue;
+            }
+
+            String term = token.toString();
+            token.setLength(0);
+            if (term.length() >= 2 && !STOP_WORDS.contains(term)) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+}
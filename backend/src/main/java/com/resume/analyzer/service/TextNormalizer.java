@@ -0,0 +1,185 @@
+package com.resume.analyzer.service;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Cleans up text extracted from PDFs and model responses in a single pass over a per-thread buffer.
+ */
+public final class TextNormalizer {
+
+    private static final Pattern LEADING_FENCE = Pattern.compile("^```(?:json)?\\s*");
+    private static final Pattern TRAILING_FENCE = Pattern.compile("\\s*```$");
+
+    private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+    private static final ThreadLocal<StringBuilder> BUFFERS = ThreadLocal.withInitial(() -> new StringBuilder(8192));
+
+    // Halves of hyphenated compounds that keep their hyphen when a line break falls after it
+    private static final Set<String> COMPOUND_PREFIXES = Set.of(
+            "self", "cross", "full", "part", "high", "low", "non", "co", "end", "real", "long", "short", "well",
+            "fast", "open", "multi", "client", "server", "front", "back", "hands", "data", "test", "user", "team"
+    );
+    private static final Set<String> COMPOUND_SUFFIXES = Set.of(
+            "based", "driven", "oriented", "focused", "facing", "level", "time", "end", "scale", "term", "side",
+            "native", "specific", "friendly", "aware", "first", "ready", "free", "related", "owned", "centric",
+            "wide", "heavy", "intensive", "critical", "sensitive", "on", "up", "like", "stack", "service"
+    );
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Normalizes extracted resume text: literal {@code \n}, {@code \r\n} and {@code \t} escapes are unescaped,
+     * line breaks become {@code \n}, unicode spaces fold to a plain space, zero-width characters and soft hyphens
+     * are dropped, ligatures are expanded, words hyphenated across a line break are joined and double quotes are
+     * removed. The result is trimmed.
+     */
+    public static String normalizeExtracted(CharSequence text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder out = buffer(text.length());
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < length) {
+                char next = text.charAt(i + 1);
+                if (next == 'n') {
+                    out.append('\n');
+                    i++;
+                    continue;
+                }
+                if (next == 't') {
+                    out.append('\t');
+                    i++;
+                    continue;
+                }
+                if (next == 'r' && i + 3 < length && text.charAt(i + 2) == '\\' && text.charAt(i + 3) == 'n') {
+                    out.append('\n');
+                    i += 3;
+                    continue;
+                }
+                out.append(c);
+                continue;
+            }
+            switch (c) {
+                case '"', '\u00AD', '\u200B', '\u200C', '\u200D', '\u2060', '\uFEFF' -> {
+                }
+                case '\r' -> {
+                    if (i + 1 < length && text.charAt(i + 1) == '\n') {
+                        i++;
+                    }
+                    out.append('\n');
+                }
+                case '\u2028', '\u2029', '\u0085' -> out.append('\n');
+                case '\u00A0', '\u1680', '\u202F', '\u205F', '\u3000' -> out.append(' ');
+                case '\uFB00' -> out.append("ff");
+                case '\uFB01' -> out.append("fi");
+                case '\uFB02' -> out.append("fl");
+                case '\uFB03' -> out.append("ffi");
+                case '\uFB04' -> out.append("ffl");
+                case '\uFB05', '\uFB06' -> out.append("st");
+                default -> {
+                    if (c >= '\u2000' && c <= '\u200A') {
+                        out.append(' ');
+                    } else {
+                        if (Character.isLowerCase(c)) {
+                            joinHyphenatedWord(out, text, i);
+                        }
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        return trimmed(out);
+    }
+
+    /**
+     * Removes the markdown code fence models sometimes wrap their JSON answers in.
+     */
+    public static String stripCodeFence(String response) {
+        if (response == null || !response.startsWith("```")) {
+            return response;
+        }
+        String stripped = LEADING_FENCE.matcher(response).replaceFirst("");
+        return TRAILING_FENCE.matcher(stripped).replaceFirst("");
+    }
+
+    /**
+     * Appends {@code value} escaped for use inside a JSON string literal.
+     */
+    public static void appendJsonEscaped(StringBuilder out, String value) {
+        if (value == null) {
+            return;
+        }
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\');
+            }
+            out.append(c);
+        }
+    }
+
+    /**
+     * Turns "experi-\nence" back into "experience" when a lowercase letter follows the line break. Compounds
+     * like "Java-\nbased" or "cross-\nfunctional" only lose the line break and keep their hyphen.
+     */
+    private static void joinHyphenatedWord(StringBuilder out, CharSequence text, int next) {
+        int end = out.length();
+        if (end < 3 || out.charAt(end - 1) != '\n' || out.charAt(end - 2) != '-' || !Character.isLetter(out.charAt(end - 3))) {
+            return;
+        }
+        int start = end - 3;
+        while (start > 0 && Character.isLetterOrDigit(out.charAt(start - 1))) {
+            start--;
+        }
+        String before = out.substring(start, end - 2);
+        if (isCompound(before, followingWord(text, next))) {
+            out.setLength(end - 1);
+        } else {
+            out.setLength(end - 2);
+        }
+    }
+
+    private static boolean isCompound(String before, String after) {
+        if (Character.isUpperCase(before.charAt(0)) || before.chars().anyMatch(Character::isDigit)) {
+            return true;
+        }
+        return COMPOUND_PREFIXES.contains(before.toLowerCase(Locale.ROOT)) || COMPOUND_SUFFIXES.contains(after);
+    }
+
+    private static String followingWord(CharSequence text, int start) {
+        int end = start;
+        while (end < text.length() && Character.isLetter(text.charAt(end))) {
+            end++;
+        }
+        return text.subSequence(start, end).toString();
+    }
+
+    private static StringBuilder buffer(int expectedLength) {
+        StringBuilder buffer = BUFFERS.get();
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY && expectedLength < MAX_RETAINED_CAPACITY) {
+            // Don't keep a huge buffer pinned to the thread after one oversized document
+            buffer = new StringBuilder(Math.max(8192, expectedLength));
+            BUFFERS.set(buffer);
+        }
+        buffer.setLength(0);
+        buffer.ensureCapacity(expectedLength);
+        return buffer;
+    }
+
+    private static String trimmed(StringBuilder out) {
+        int start = 0;
+        int end = out.length();
+        while (start < end && out.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && out.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return out.substring(start, end);
+    }
+}
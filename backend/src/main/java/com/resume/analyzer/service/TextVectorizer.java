@@ -0,0 +1,78 @@
+package com.resume.analyzer.service;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns text into a fixed-size, L2-normalized term vector using signed feature hashing over unigrams and bigrams
+ * with sublinear term frequency. Cosine similarity between two vectors is then a plain dot product.
+ */
+@Component
+public class TextVectorizer {
+
+    public static final int DIMENSIONS = 1024;
+
+    public float[] vectorize(String text) {
+        float[] vector = new float[DIMENSIONS];
+        if (text == null || text.isEmpty()) {
+            return vector;
+        }
+
+        String previous = null;
+        for (String term : TermExtractor.terms(text)) {
+            add(vector, term);
+            if (previous != null) {
+                add(vector, previous + ' ' + term);
+            }
+            previous = term;
+        }
+
+        sublinearAndNormalize(vector);
+        return vector;
+    }
+
+    public static float cosine(float[] a, float[] b) {
+        if (a == null || b == null || a.length != b.length) {
+            return 0f;
+        }
+        float dot = 0f;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+        }
+        return dot;
+    }
+
+    private void add(float[] vector, String feature) {
+        int hash = mix(feature.hashCode());
+        int index = hash & (DIMENSIONS - 1);
+        vector[index] += (hash & 0x8000_0000) == 0 ? 1f : -1f;
+    }
+
+    private void sublinearAndNormalize(float[] vector) {
+        double norm = 0;
+        for (int i = 0; i < vector.length; i++) {
+            float value = vector[i];
+            if (value != 0f) {
+                float scaled = (float) (Math.signum(value) * (1 + Math.log(Math.abs(value))));
+                vector[i] = scaled;
+                norm += scaled * scaled;
+            }
+        }
+        if (norm == 0) {
+            return;
+        }
+        float inverse = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= inverse;
+        }
+    }
+
+    private static int mix(int hash) {
+        // murmur3 finalizer, spreads String.hashCode so nearby terms don't cluster in the same buckets
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
@@ -7,7 +7,12 @@ import com.resume.analyzer.dto.UserResponse;
 import com.resume.analyzer.exception.UserCreationException;
 import com.resume.analyzer.exception.UserNotFoundException;
 import com.resume.analyzer.model.User;
+import com.resume.analyzer.repository.ResumeRepository;
 import com.resume.analyzer.repository.UserRepository;
+import com.resume.analyzer.security.CustomUserDetailsService;
+import com.resume.analyzer.storage.ResumeBlobStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -18,12 +23,25 @@ import java.util.UUID;
 @Service
 public class UserServiceImpl implements UserService {
 
+    private static final Logger log = LoggerFactory.getLogger(UserServiceImpl.class);
+
     private final UserRepository userRepository;
+    private final ResumeRepository resumeRepository;
+    private final ResumeBlobStore resumeBlobStore;
+    private final ResumeIndex resumeIndex;
+    private final MatchingService matchingService;
     private final PasswordEncoder passwordEncoder;
+    private final CustomUserDetailsService customUserDetailsService;
 
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserServiceImpl(UserRepository userRepository, ResumeRepository resumeRepository, ResumeBlobStore resumeBlobStore,
+                           ResumeIndex resumeIndex, MatchingService matchingService, PasswordEncoder passwordEncoder, CustomUserDetailsService customUserDetailsService) {
         this.userRepository = userRepository;
+        this.resumeRepository = resumeRepository;
+        this.resumeBlobStore = resumeBlobStore;
+        this.resumeIndex = resumeIndex;
+        this.matchingService = matchingService;
         this.passwordEncoder = passwordEncoder;
+        this.customUserDetailsService = customUserDetailsService;
     }
 
     @Override
@@ -56,6 +74,7 @@ public class UserServiceImpl implements UserService {
     public UserResponse updateUser(UUID id, UpdateUserRequest user) {
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
+        String previousEmail = existingUser.getEmail();
 
         if (StringUtils.hasText(user.getName())) {
             existingUser.setName(user.getName());
@@ -66,12 +85,29 @@ public class UserServiceImpl implements UserService {
         }
 
         User updatedUser = userRepository.save(existingUser);
+        customUserDetailsService.evict(previousEmail);
         return mapToResponse(updatedUser);
     }
 
     @Override
     public void deleteUser(UUID id) {
+        String email = userRepository.findById(id).map(User::getEmail).orElse(null);
+        // The cascade only removes the rows, the files live outside the resume table
+        List<ResumeRepository.StoredFileView> files = resumeRepository.findStoredFilesByUserId(id);
         userRepository.deleteById(id);
+        customUserDetailsService.evict(email);
+        for (ResumeRepository.StoredFileView file : files) {
+            resumeIndex.remove(file.getId());
+            matchingService.evictResume(file.getId());
+            if (file.getStorageKey() == null) {
+                continue;
+            }
+            try {
+                resumeBlobStore.delete(file.getStorageKey());
+            } catch (RuntimeException e) {
+                log.warn("Could not delete file data {} of deleted user {}", file.getStorageKey(), id, e);
+            }
+        }
     }
 
     @Override
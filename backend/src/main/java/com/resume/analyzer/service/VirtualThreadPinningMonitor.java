@@ -0,0 +1,99 @@
+package com.resume.analyzer.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Watches for virtual threads that block while pinned to their carrier, e.g. inside {@code synchronized} or a
+ * native frame. Pinned time is recorded as {@code jvm.threads.virtual.pinned} and the offending stack is logged,
+ * at most once per log interval, so a library that quietly serializes requests shows up before it hurts.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "threads.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final long logIntervalNanos;
+    private final Timer pinned;
+    private final Counter dropped;
+    private final AtomicLong lastLogged = new AtomicLong(System.nanoTime());
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${threads.pinning-monitor.threshold:20ms}") Duration threshold,
+                                       @Value("${threads.pinning-monitor.log-interval:1m}") Duration logInterval,
+                                       MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.logIntervalNanos = logInterval.toNanos();
+        this.pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads spent blocked while pinned to a carrier thread")
+                .register(meterRegistry);
+        this.dropped = meterRegistry.counter("jvm.threads.virtual.pinned.logs.suppressed");
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+
+        long now = System.nanoTime();
+        long last = lastLogged.get();
+        if (now - last < logIntervalNanos || !lastLogged.compareAndSet(last, now)) {
+            dropped.increment();
+            return;
+        }
+        log.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), topFrames(event));
+    }
+
+    private static String topFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown location";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < Math.min(LOGGED_FRAMES, frames.size()); i++) {
+            RecordedFrame frame = frames.get(i);
+            out.append("\n\tat ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber());
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,82 @@
+package com.resume.analyzer.storage;
+
+import com.resume.analyzer.config.ResumeStorageProperties;
+import com.resume.analyzer.exception.ResumeStorageException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "resume.storage.type", havingValue = "filesystem")
+public class FileSystemResumeBlobStore implements ResumeBlobStore {
+
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+
+    private final Path root;
+
+    public FileSystemResumeBlobStore(ResumeStorageProperties properties) throws IOException {
+        this.root = Files.createDirectories(Paths.get(properties.getDirectory()).toAbsolutePath());
+    }
+
+    @Override
+    public String store(InputStream content, long size) {
+        String key = UUID.randomUUID().toString();
+        Path target = resolve(key);
+
+        try (ReadableByteChannel source = Channels.newChannel(content);
+             FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+                position += transferred;
+            }
+            return key;
+        } catch (IOException e) {
+            deleteQuietly(target);
+            throw new ResumeStorageException("Could not store file data", e);
+        }
+    }
+
+    @Override
+    public Resource load(String key, long size) {
+        Path path = resolve(key);
+        if (!Files.isReadable(path)) {
+            throw new ResumeStorageException("Stored file is missing");
+        }
+        return new FileSystemResource(path);
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new ResumeStorageException("Could not delete file data", e);
+        }
+    }
+
+    private Path resolve(String key) {
+        // Keys are always UUIDs; parsing rejects anything that could escape the storage directory.
+        return root.resolve(UUID.fromString(key).toString());
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // The original failure is more useful to the caller than this one.
+        }
+    }
+}
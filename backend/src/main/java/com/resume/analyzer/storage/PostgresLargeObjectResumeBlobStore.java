@@ -0,0 +1,144 @@
+package com.resume.analyzer.storage;
+
+import com.resume.analyzer.exception.ResumeStorageException;
+import org.postgresql.PGConnection;
+import org.postgresql.largeobject.LargeObject;
+import org.postgresql.largeobject.LargeObjectManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Keeps resume files in PostgreSQL large objects, which are read and written in chunks instead of
+ * being materialized as a single {@code bytea} value.
+ */
+@Component
+@ConditionalOnProperty(name = "resume.storage.type", havingValue = "postgres", matchIfMissing = true)
+public class PostgresLargeObjectResumeBlobStore implements ResumeBlobStore {
+
+    private final DataSource dataSource;
+
+    public PostgresLargeObjectResumeBlobStore(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public String store(InputStream content, long size) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                LargeObjectManager manager = connection.unwrap(PGConnection.class).getLargeObjectAPI();
+                long oid = manager.createLO(LargeObjectManager.READWRITE);
+                LargeObject largeObject = manager.open(oid, LargeObjectManager.WRITE);
+                try (OutputStream out = largeObject.getOutputStream()) {
+                    content.transferTo(out);
+                }
+                connection.commit();
+                return Long.toString(oid);
+            } catch (SQLException | IOException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException | IOException e) {
+            throw new ResumeStorageException("Could not store file data", e);
+        }
+    }
+
+    @Override
+    public Resource load(String key, long size) {
+        return new LargeObjectResource(Long.parseLong(key), size);
+    }
+
+    @Override
+    public void delete(String key) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                connection.unwrap(PGConnection.class).getLargeObjectAPI().delete(Long.parseLong(key));
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new ResumeStorageException("Could not delete file data", e);
+        }
+    }
+
+    /**
+     * Copies the large object to a temp file for every stream, so Spring can re-open the resource when
+     * serving byte ranges and a slow client never holds a pooled connection. The file is removed when the
+     * stream is closed.
+     */
+    private class LargeObjectResource extends AbstractResource {
+        private final long oid;
+        private final long size;
+
+        private LargeObjectResource(long oid, long size) {
+            this.oid = oid;
+            this.size = size;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            Path spool = Files.createTempFile("resume-download-", ".pdf");
+            try {
+                copyTo(spool);
+                return Files.newInputStream(spool, StandardOpenOption.DELETE_ON_CLOSE);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(spool);
+                throw e;
+            }
+        }
+
+        private void copyTo(Path spool) throws IOException {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(false);
+                try {
+                    LargeObject largeObject = connection.unwrap(PGConnection.class)
+                            .getLargeObjectAPI()
+                            .open(oid, LargeObjectManager.READ);
+                    try (InputStream in = largeObject.getInputStream()) {
+                        Files.copy(in, spool, StandardCopyOption.REPLACE_EXISTING);
+                    } finally {
+                        largeObject.close();
+                    }
+                    connection.commit();
+                } catch (SQLException | IOException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                throw new IOException("Could not read file data", e);
+            }
+        }
+
+        @Override
+        public long contentLength() {
+            return size;
+        }
+
+        @Override
+        public String getDescription() {
+            return "PostgreSQL large object [" + oid + "]";
+        }
+    }
+}
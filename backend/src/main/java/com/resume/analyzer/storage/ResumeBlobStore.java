@@ -0,0 +1,24 @@
+package com.resume.analyzer.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+
+/**
+ * Stores uploaded resume files outside the resume row so they can be streamed in and out without
+ * holding the whole file in memory.
+ */
+public interface ResumeBlobStore {
+
+    /**
+     * Copies {@code content} into the store and returns the key used to read it back.
+     */
+    String store(InputStream content, long size);
+
+    /**
+     * Returns a re-readable resource of known length, which lets Spring serve HTTP Range requests from it.
+     */
+    Resource load(String key, long size);
+
+    void delete(String key);
+}
@@ -0,0 +1,91 @@
+package com.resume.analyzer.service;
+
+import com.resume.analyzer.dto.ResumeAnalysisResponse;
+import com.resume.analyzer.exception.ResumeAnalyzeException;
+import com.resume.analyzer.exception.TruncatedAnalysisException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AiResponseParserTest {
+
+    private final AiResponseParser parser = new AiResponseParser();
+
+    @Test
+    void readsAnswerWrappedInProseAndCodeFence() {
+        ResumeAnalysisResponse response = parser.parse("""
+                Here is the analysis:
+                ```json
+                {"MatchScore": 82, "KeyStrengths": ["Java", "Spring"], "SkillsGap": ["Kubernetes"],
+                 "SuggestionsForImprovement": ["Quantify results"], "OverallAssessment": "Strong fit."}
+                ```
+                """);
+
+        assertEquals(82, response.getMatchScore());
+        assertEquals(List.of("Java", "Spring"), response.getKeyStrengths());
+        assertEquals(List.of("Kubernetes"), response.getSkillsGap());
+        assertEquals("Strong fit.", response.getOverallAssessment());
+    }
+
+    @Test
+    void coercesScoresWrittenAsText() {
+        assertEquals(78, parser.parse("{\"MatchScore\": \"78/100\", \"OverallAssessment\": \"Good\"}").getMatchScore());
+        assertEquals(78, parser.parse("{\"score\": 78.4, \"summary\": \"Good\"}").getMatchScore());
+        assertEquals(100, parser.parse("{\"MatchScore\": 140, \"OverallAssessment\": \"Good\"}").getMatchScore());
+    }
+
+    @Test
+    void reportsTruncatedAnswerWithItsCompleteFields() {
+        TruncatedAnalysisException truncated = assertThrows(TruncatedAnalysisException.class, () -> parser.parse(
+                "{\"MatchScore\": 64, \"OverallAssessment\": \"Partial fit\", \"KeyStrengths\": [\"SQL\", \"Pyth"));
+
+        assertEquals(64, truncated.getPartial().getMatchScore());
+        assertEquals("Partial fit", truncated.getPartial().getOverallAssessment());
+        assertThrows(TruncatedAnalysisException.class,
+                () -> parser.parse("{\"MatchScore\": 64, \"OverallAssessment\": \"Partial fit\""));
+    }
+
+    @Test
+    void rejectsScoreThatIsNotANumber() {
+        assertThrows(ResumeAnalyzeException.class,
+                () -> parser.parse("{\"MatchScore\": NaN, \"OverallAssessment\": \"Good\"}"));
+    }
+
+    @Test
+    void matchesFieldNamesRegardlessOfDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            ResumeAnalysisResponse response = parser.parse("{\"MatchScore\": 70, \"OverallAssessment\": \"Good\", "
+                    + "\"SuggestionsForImprovement\": [\"Add metrics\"]}");
+
+            assertEquals(List.of("Add metrics"), response.getSuggestionsForImprovement());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void rejectsAnswerWithoutMatchScore() {
+        assertThrows(ResumeAnalyzeException.class,
+                () -> parser.parse("{\"KeyStrengths\": [\"Java\"], \"OverallAssessment\": \"Good\"}"));
+        assertThrows(ResumeAnalyzeException.class,
+                () -> parser.parse("{\"MatchScore\": \"n/a\", \"OverallAssessment\": \"Good\"}"));
+    }
+
+    @Test
+    void rejectsTruncatedAnswerWithoutAssessment() {
+        assertThrows(ResumeAnalyzeException.class,
+                () -> parser.parse("{\"MatchScore\": 70, \"KeyStrengths\": [\"Java\"], \"Overall"));
+    }
+
+    @Test
+    void rejectsAnswerWithoutJson() {
+        assertThrows(ResumeAnalyzeException.class, () -> parser.parse("I cannot analyze this resume."));
+        assertThrows(ResumeAnalyzeException.class, () -> parser.parse((String) null));
+    }
+}
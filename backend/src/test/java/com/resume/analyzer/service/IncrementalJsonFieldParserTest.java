@@ -0,0 +1,45 @@
+package com.resume.analyzer.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IncrementalJsonFieldParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AiResponseParser aiResponseParser = new AiResponseParser();
+
+    @Test
+    void reportsFieldsAsTheyComplete() throws IOException {
+        List<String> fields = new ArrayList<>();
+        IncrementalJsonFieldParser parser = new IncrementalJsonFieldParser(objectMapper, aiResponseParser.jsonFactory(),
+                (name, value) -> fields.add(name));
+
+        parser.feed("```json\n{\"MatchScore\": 7");
+        assertEquals(List.of(), fields);
+        parser.feed("5, \"KeyStrengths\": [\"Java\"], \"OverallAssessment\": \"Good\"}\n```");
+
+        assertEquals(List.of("MatchScore", "KeyStrengths", "OverallAssessment"), fields);
+        assertTrue(parser.isFinished());
+    }
+
+    @Test
+    void acceptsTheLenientSyntaxOfTheSynchronousParser() throws IOException {
+        IncrementalJsonFieldParser parser = new IncrementalJsonFieldParser(objectMapper, aiResponseParser.jsonFactory(),
+                (name, value) -> { });
+
+        parser.feed("{'MatchScore': 80, KeyStrengths: ['Java', 'SQL',], 'OverallAssessment': 'Good',}");
+
+        JsonNode result = parser.result();
+        assertTrue(parser.isFinished());
+        assertEquals(80, aiResponseParser.parse(result).getMatchScore());
+        assertEquals(2, result.get("KeyStrengths").size());
+    }
+}
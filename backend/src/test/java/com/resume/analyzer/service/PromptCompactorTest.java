@@ -0,0 +1,104 @@
+package com.resume.analyzer.service;
+
+import com.resume.analyzer.config.PromptCompactionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PromptCompactorTest {
+
+    private final PromptCompactionProperties properties = new PromptCompactionProperties();
+    private final PromptCompactor compactor = new PromptCompactor(properties, new SimpleMeterRegistry());
+
+    @Test
+    void dropsRepeatsSeparatorsAndBoilerplate() {
+        String resume = """
+                Jane Doe
+                Page 1 of 2
+                -----------
+                EXPERIENCE
+                Built payment APIs in Java
+                Built payment APIs in Java
+                References available upon request
+                """;
+
+        assertEquals("Jane Doe\nEXPERIENCE\nBuilt payment APIs in Java", compactor.compactResume(resume, "Java"));
+    }
+
+    @Test
+    void keepsResumeSectionsMatchingTheJobWhenOverBudget() {
+        properties.setResumeTokenBudget(30);
+        String resume = """
+                Jane Doe
+                HOBBIES
+                Sailing, chess, photography, travelling, cooking, hiking and long distance running events
+                SKILLS
+                Java, Spring Boot, Kafka, PostgreSQL
+                """;
+
+        String compacted = compactor.compactResume(resume, "Backend engineer with Java, Kafka and PostgreSQL");
+
+        assertTrue(compacted.startsWith("Jane Doe"));
+        assertTrue(compacted.contains("Java, Spring Boot, Kafka, PostgreSQL"));
+        assertFalse(compacted.contains("Sailing"));
+        assertTrue(compacted.length() <= 30 * LlmGovernor.CHARS_PER_TOKEN);
+    }
+
+    @Test
+    void keepsJobDescriptionWithinBudget() {
+        properties.setJobDescriptionTokenBudget(20);
+        StringBuilder jobDescription = new StringBuilder("Senior Java Engineer\n");
+        for (int i = 0; i < 50; i++) {
+            jobDescription.append("Responsibility number ").append(i).append('\n');
+        }
+
+        String compacted = compactor.compactJobDescription(jobDescription.toString(), "Java");
+
+        assertTrue(compacted.startsWith("Senior Java Engineer"));
+        assertTrue(compacted.length() <= 20 * LlmGovernor.CHARS_PER_TOKEN);
+    }
+
+    @Test
+    void keepsJobRequirementsAheadOfCompanyBlurbWhenOverBudget() {
+        properties.setJobDescriptionTokenBudget(40);
+        String jobDescription = """
+                Senior Backend Engineer
+                About us:
+                We are a fast growing fintech with offices in Berlin, Lisbon and Warsaw, backed by leading investors
+                Benefits:
+                Free lunch, gym membership, thirty days of paid vacation and a yearly learning budget
+                Requirements:
+                Java, Kafka and PostgreSQL in production
+                """;
+
+        String compacted = compactor.compactJobDescription(jobDescription, "Java developer");
+
+        assertTrue(compacted.startsWith("Senior Backend Engineer"));
+        assertTrue(compacted.contains("Java, Kafka and PostgreSQL in production"));
+        assertFalse(compacted.contains("fintech"));
+    }
+
+    @Test
+    void keepsRequirementsThatMentionPrivacy() {
+        String jobDescription = """
+                Data Protection Engineer
+                Experience writing a privacy policy under GDPR
+                Please see our privacy notice for how we handle your data.
+                Privacy Policy
+                """;
+
+        assertEquals("Data Protection Engineer\nExperience writing a privacy policy under GDPR",
+                compactor.compactJobDescription(jobDescription, ""));
+    }
+
+    @Test
+    void disabledCompactionLeavesPromptInputsUntouched() {
+        properties.setEnabled(false);
+        String resume = "Jane Doe\nJane Doe\n-----";
+
+        assertTrue(compactor.analysisPrompt("Java", resume).contains(resume));
+    }
+}
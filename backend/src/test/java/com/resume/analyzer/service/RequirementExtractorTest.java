@@ -0,0 +1,75 @@
+package com.resume.analyzer.service;
+
+import com.resume.analyzer.dto.JobRequirements;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequirementExtractorTest {
+
+    private static final String JOB = """
+            Senior Backend Engineer
+            Acme Payments, Berlin
+
+            About us
+            We are a fast growing fintech with offices in Berlin and Lisbon.
+
+            Requirements:
+            - 5+ years of Java experience
+            - Kubernetes and Kafka in production
+            - AWS
+            - Java 17, Spring Boot
+
+            Benefits:
+            - Free lunch and a gym membership
+            """;
+
+    @Test
+    void readsSkillsFromRequirementSection() {
+        JobRequirements requirements = RequirementExtractor.extract(JOB);
+
+        assertEquals("java", requirements.getSkills().get(0));
+        assertTrue(requirements.getSkills().containsAll(List.of("kubernetes", "kafka", "aws", "spring")));
+        assertFalse(requirements.getSkills().contains("lunch"));
+        assertFalse(requirements.getSkills().contains("5+"));
+    }
+
+    @Test
+    void readsYearsAndSeniority() {
+        JobRequirements requirements = RequirementExtractor.extract(JOB);
+
+        assertEquals(5, requirements.getMinYearsExperience());
+        assertEquals("senior", requirements.getSeniority());
+    }
+
+    @Test
+    void takesHighestLowerBoundOfYearRanges() {
+        JobRequirements requirements = RequirementExtractor.extract("3-5 years of Python, 2 years of SQL");
+
+        assertEquals(3, requirements.getMinYearsExperience());
+    }
+
+    @Test
+    void prefersTitleOverBodyForSeniority() {
+        JobRequirements requirements = RequirementExtractor.extract("""
+                Staff Engineer, Platform
+                You will mentor junior engineers.
+                """);
+
+        assertEquals("staff", requirements.getSeniority());
+    }
+
+    @Test
+    void emptyTextHasNoRequirements() {
+        JobRequirements requirements = RequirementExtractor.extract("  ");
+
+        assertTrue(requirements.getSkills().isEmpty());
+        assertNull(requirements.getMinYearsExperience());
+        assertNull(requirements.getSeniority());
+    }
+}
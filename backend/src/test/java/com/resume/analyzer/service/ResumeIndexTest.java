@@ -0,0 +1,71 @@
+package com.resume.analyzer.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResumeIndexTest {
+
+    private final ResumeIndex index = new ResumeIndex(null, null);
+    private final UUID owner = UUID.randomUUID();
+    private final UUID otherOwner = UUID.randomUUID();
+
+    @Test
+    void ranksBestMatchFirst() {
+        UUID java = UUID.randomUUID();
+        UUID python = UUID.randomUUID();
+        index.add(java, owner, "Java Spring Boot microservices Kafka PostgreSQL");
+        index.add(python, owner, "Python Django data pipelines Airflow");
+
+        List<ResumeIndex.ScoredResume> ranked = index.topK("Senior Java engineer with Spring and Kafka", owner, 10);
+
+        assertEquals(java, ranked.get(0).resumeId());
+        assertTrue(ranked.stream().noneMatch(scored -> scored.resumeId().equals(python)));
+    }
+
+    @Test
+    void filtersByOwner() {
+        UUID mine = UUID.randomUUID();
+        UUID theirs = UUID.randomUUID();
+        index.add(mine, owner, "Java developer");
+        index.add(theirs, otherOwner, "Java developer with Java certification");
+
+        List<ResumeIndex.ScoredResume> ranked = index.topK("Java", owner, 10);
+
+        assertEquals(List.of(mine), ranked.stream().map(ResumeIndex.ScoredResume::resumeId).toList());
+        assertEquals(2, index.topK("Java", null, 10).size());
+    }
+
+    @Test
+    void removedResumesAreNotReturned() {
+        UUID resumeId = UUID.randomUUID();
+        index.add(resumeId, owner, "Go Kubernetes Terraform");
+        index.remove(resumeId);
+
+        assertTrue(index.topK("Kubernetes", owner, 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void addingTheSameResumeTwiceIndexesItOnce() {
+        UUID resumeId = UUID.randomUUID();
+        index.add(resumeId, owner, "Rust systems programming");
+        index.add(resumeId, owner, "Rust systems programming");
+
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void limitsResults() {
+        for (int i = 0; i < 5; i++) {
+            index.add(UUID.randomUUID(), owner, "SQL analyst " + i);
+        }
+
+        assertEquals(3, index.topK("SQL", owner, 3).size());
+        assertTrue(index.topK("SQL", owner, 0).isEmpty());
+    }
+}
@@ -0,0 +1,73 @@
+package com.resume.analyzer.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResumeSectionsTest {
+
+    private static final String RESUME = """
+            Jane Doe
+            jane@example.com
+            EXPERIENCE
+            Backend engineer at Acme, built payment APIs in Java
+            Education
+            BSc Computer Science
+            SKILLS
+            Java, Spring, PostgreSQL
+            """;
+
+    @Test
+    void splitsAtHeadings() {
+        List<ResumeSections.Section> sections = ResumeSections.split(RESUME);
+
+        assertEquals(List.of("", "EXPERIENCE", "Education", "SKILLS"),
+                sections.stream().map(ResumeSections.Section::heading).toList());
+    }
+
+    @Test
+    void recognisesHeadings() {
+        assertTrue(ResumeSections.isHeading("Work Experience:"));
+        assertTrue(ResumeSections.isHeading("TECHNICAL SKILLS"));
+        assertFalse(ResumeSections.isHeading("Built payment APIs in Java"));
+        assertFalse(ResumeSections.isHeading(""));
+    }
+
+    @Test
+    void hashesIgnoreWhitespaceChanges() {
+        assertEquals(ResumeSections.hashes(RESUME), ResumeSections.hashes(RESUME.replace("Java, Spring", "Java,   Spring")));
+    }
+
+    @Test
+    void identicalTextIsUnchanged() {
+        ResumeSections.Diff diff = ResumeSections.diff(RESUME, ResumeSections.hashes(RESUME), RESUME);
+
+        assertTrue(diff.unchanged());
+        assertEquals(0.0, diff.changedShare());
+    }
+
+    @Test
+    void editedSectionIsChangedNotRemoved() {
+        String edited = RESUME.replace("Java, Spring, PostgreSQL", "Java, Spring, PostgreSQL, Kafka");
+
+        ResumeSections.Diff diff = ResumeSections.diff(RESUME, null, edited);
+
+        assertEquals(List.of("SKILLS"), diff.changed().stream().map(ResumeSections.Section::heading).toList());
+        assertTrue(diff.removed().isEmpty());
+        assertTrue(diff.changedShare() > 0 && diff.changedShare() < 0.5);
+    }
+
+    @Test
+    void droppedSectionIsRemoved() {
+        String withoutEducation = RESUME.replace("Education\nBSc Computer Science\n", "");
+
+        ResumeSections.Diff diff = ResumeSections.diff(RESUME, null, withoutEducation);
+
+        assertTrue(diff.changed().isEmpty());
+        assertEquals(List.of("Education"), diff.removed());
+    }
+}
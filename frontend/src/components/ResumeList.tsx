@@ -12,6 +12,7 @@ import {
     Chip,
     useTheme,
     Stack,
+    Button,
 } from '@mui/material';
 import VisibilityIcon from '@mui/icons-material/Visibility';
 import DeleteIcon from '@mui/icons-material/Delete';
@@ -25,6 +26,9 @@ interface ResumeListProps {
     onSelectResume: (resume: Resume | null) => void;
     onDeleteResume: (id: string) => void;
     onViewResume: (id: string) => void;
+    onLoadMore?: () => void;
+    hasMore?: boolean;
+    loadingMore?: boolean;
     loading?: boolean;
 }
 
@@ -59,6 +63,9 @@ const ResumeList: React.FC<ResumeListProps> = ({
     onSelectResume,
     onDeleteResume,
     onViewResume,
+    onLoadMore,
+    hasMore = false,
+    loadingMore = false,
     loading = false,
 }) => {
     const theme = useTheme();
@@ -97,7 +104,7 @@ const ResumeList: React.FC<ResumeListProps> = ({
                     Your Resumes
                 </Typography>
                 <Chip 
-                    label={`${resumes.length} ${resumes.length === 1 ? 'Resume' : 'Resumes'}`}
+                    label={`${resumes.length}${hasMore ? '+' : ''} ${resumes.length === 1 && !hasMore ? 'Resume' : 'Resumes'}`}
                     size="small"
                     sx={{ 
                         fontWeight: 500,
@@ -280,6 +287,13 @@ const ResumeList: React.FC<ResumeListProps> = ({
                             </Box>
                         </Fade>
                     ))}
+                    {hasMore && onLoadMore && (
+                        <Box sx={{ display: 'flex', justifyContent: 'center', pt: 1 }}>
+                            <Button size="small" onClick={onLoadMore} disabled={loadingMore}>
+                                {loadingMore ? 'Loading...' : 'Load more'}
+                            </Button>
+                        </Box>
+                    )}
                 </List>
             )}
         </Paper>
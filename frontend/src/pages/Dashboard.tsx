@@ -1,7 +1,7 @@
 import React, { useState, useEffect } from 'react';
 import { Box, Typography, Container, Stack, useTheme } from '@mui/material';
 import api from '../services/api';
-import { Resume } from '../types/resume';
+import { Resume, ResumePage } from '../types/resume';
 import { AnalysisResponse, SavedAnalysis } from '../types/analysis';
 import ResumeUpload from '../components/ResumeUpload';
 import ResumeList from '../components/ResumeList';
@@ -11,9 +11,13 @@ import AnalysisResults from '../components/AnalysisResults';
 import PDFViewerDialog from '../components/PDFViewerDialog';
 import { AxiosError } from 'axios';
 
+const RESUME_PAGE_SIZE = 20;
+
 const Dashboard = () => {
     const theme = useTheme();
     const [resumes, setResumes] = useState<Resume[]>([]);
+    const [nextCursor, setNextCursor] = useState<string | null>(null);
+    const [loadingMore, setLoadingMore] = useState(false);
     const [selectedResume, setSelectedResume] = useState<Resume | null>(null);
     const [jobDescription, setJobDescription] = useState('');
     const [analysis, setAnalysis] = useState<AnalysisResponse | null>(null);
@@ -30,13 +34,35 @@ const Dashboard = () => {
         fetchResumes();
     }, []);
 
+    const fetchResumePage = async (cursor: string | null) => {
+        const response: { data: ResumePage } = await api.get('/api/v1/resumes/user/me', {
+            params: { cursor: cursor ?? undefined, limit: RESUME_PAGE_SIZE }
+        });
+        return response.data;
+    };
+
     const fetchResumes = async () => {
         try {
-            const response = await api.get('/api/v1/resumes/user/me');
-            setResumes(response.data);
+            const page = await fetchResumePage(null);
+            setResumes(page.items);
+            setNextCursor(page.nextCursor);
+        } catch (err) {
+            setUploadError('Failed to fetch resumes');
+        }
+    };
+
+    const handleLoadMoreResumes = async () => {
+        if (!nextCursor || loadingMore) return;
+
+        setLoadingMore(true);
+        try {
+            const page = await fetchResumePage(nextCursor);
+            setResumes((loaded) => [...loaded, ...page.items]);
+            setNextCursor(page.nextCursor);
         } catch (err) {
             setUploadError('Failed to fetch resumes');
         }
+        setLoadingMore(false);
     };
 
     const fetchAnalyses = async (resumeId: string) => {
@@ -237,6 +263,9 @@ const Dashboard = () => {
                                 onSelectResume={handleSelectResume}
                                 onDeleteResume={handleDeleteResume}
                                 onViewResume={handleViewResume}
+                                onLoadMore={handleLoadMoreResumes}
+                                hasMore={!!nextCursor}
+                                loadingMore={loadingMore}
                                 loading={loading}
                             />
                         </Stack>
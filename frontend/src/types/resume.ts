@@ -1,6 +1,12 @@
 export interface Resume {
     id: string;
     fileName: string;
-    parsedText: string;
+    fileType: string;
+    fileSize: number | null;
     uploadedAt: string;
-}
\ No newline at end of file
+}
+
+export interface ResumePage {
+    items: Resume[];
+    nextCursor: string | null;
+}